@@ -1,5 +1,7 @@
 package com.example.my_api;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -27,24 +29,23 @@ public class AuthController {
 	//	  (CORS 설정은 SecurityConfig에서 전역으로 처리,
 	//	   BoardController처럼 개별로 추가해야 함)
 	@CrossOrigin(origins = "http://localhost:3000")
+	//    해싱이 끝날 때까지 Tomcat 워커를 붙잡지 않도록 CompletableFuture로 반환 (비동기 응답)
 	@PostMapping("/register")
-	public ResponseEntity<User> register(@RequestBody AuthRequest request) {
+	public CompletableFuture<ResponseEntity<User>> register(@RequestBody AuthRequest request) {
 		User user = new User();
 		user.setUsername(request.username());
 		user.setPassword(request.password());
 		
-		User registeredUser = authService.register(user);
-		
-		return ResponseEntity.ok(registeredUser); // 보안상 비번 제외하고 반환하는게 좋음
+		return authService.register(user)
+				.thenApply(ResponseEntity::ok); // 보안상 비번 제외하고 반환하는게 좋음
 	}
 	
 	// 3. [로그인 API]
 	@CrossOrigin(origins = "http://localhost:3000")
 	@PostMapping("/login")
-	public ResponseEntity<String> login(@RequestBody AuthRequest request) {
-		String token = authService.login(request.username(), request.password());
-		
-		return ResponseEntity.ok(token);
+	public CompletableFuture<ResponseEntity<String>> login(@RequestBody AuthRequest request) {
+		return authService.login(request.username(), request.password())
+				.thenApply(ResponseEntity::ok);
 	}
 
 }
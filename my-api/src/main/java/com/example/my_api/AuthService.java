@@ -1,5 +1,7 @@
 package com.example.my_api;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -9,16 +11,22 @@ public class AuthService {
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtTokenProvider jwtTokenProvider; // 1. JWT 프로바이더 주입
+	private final PasswordHashingExecutor passwordHashingExecutor; // BCrypt 전용 스레드 풀
+	private final UserLookupCache userLookupCache; // username -> (ID, 비밀번호 해시) 캐시
 	
 	// 1. UserRepository와 PasswordEncoder를 주입받음
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider,
+    		PasswordHashingExecutor passwordHashingExecutor, UserLookupCache userLookupCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.userLookupCache = userLookupCache;
     }
     
     // [회원가입 로직]
-    public User register(User user) {
+    // 해싱은 요청 스레드가 아닌 전용 풀에서 실행 (풀이 가득 차면 503)
+    public CompletableFuture<User> register(User user) {
     	// 1. 사용자 이름 중복 체크
     	if(userRepository.existsByUsername(user.getUsername())) {
     		throw new RuntimeException("이미 사용 중인 사용자 이름입니다.");
@@ -27,29 +35,43 @@ public class AuthService {
     	// 2. [중요] 비밀번호 암호화(해싱)
     	//    React 에서 받은 평문 비밀번호(예 : "1234")를
     	//    BCrypt 해시로 변경
-    	String encodedPassword = passwordEncoder.encode(user.getPassword());
-    	user.setPassword(encodedPassword);
-    	
-    	// 3. DB에 저장
-    	return userRepository.save(user);    	
+    	String rawPassword = user.getPassword();
+    	return passwordHashingExecutor.submit("encode", () -> passwordEncoder.encode(rawPassword))
+    			.thenApply(encodedPassword -> {
+    				user.setPassword(encodedPassword);
+    				// 3. DB에 저장
+    				User savedUser = userRepository.save(user);
+    				userLookupCache.invalidate(savedUser.getUsername()); // 사용자 정보 변경 -> 캐시 항목 제거
+    				return savedUser;
+    			});
     }
     
     // [로그인 로직]
-    public String login(String username, String password) {
-    	// 1. DB에서 username으로 사용자 조회
-    	User user = userRepository.findByUsername(username)
+    // 비밀번호 비교(BCrypt)는 전용 풀에서 실행 (풀이 가득 차면 503)
+    public CompletableFuture<String> login(String username, String password) {
+    	// 1. username으로 사용자 조회 (캐시에 있으면 DB 조회 없음)
+    	UserLookupCache.CachedUser user = userLookupCache.findByUsername(username)
     			.orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
     	
-    	// 2. [중요] 비밀번호 비교
-    	//			React에서 받은 평문 비번(password)과
-    	//			DB에 저장된 해시 비번(user.getPassword())을 비교
-    	if(!passwordEncoder.matches(password, user.getPassword())) {
-    		// (보안을 위해 에러 메시지는 구체적으로 쓰지 않는 것이 좋음)
-    		throw new RuntimeException("아이디 또는 비밀번호가 일치하지 않습니다.");
-    	}
-    	
-    	// 3. 로그인 성공 시, username으로 JWT 토큰 생성
-        return jwtTokenProvider.createToken(user.getUsername());
+    	return passwordHashingExecutor.submit("matches", () -> {
+    		// 2. [중요] 비밀번호 비교
+        	//			React에서 받은 평문 비번(password)과
+        	//			DB에 저장된 해시 비번(user.passwordHash())을 비교
+    		if(!passwordEncoder.matches(password, user.passwordHash())) {
+    			// (보안을 위해 에러 메시지는 구체적으로 쓰지 않는 것이 좋음)
+    			throw new RuntimeException("아이디 또는 비밀번호가 일치하지 않습니다.");
+    		}
+    		
+    		// 3. 저장된 해시의 작업 계수가 현재 설정(auth.bcrypt.strength)보다 낮으면 새 계수로 다시 해싱
+    		//    (평문 비밀번호는 로그인할 때만 알 수 있으므로 이때 교체)
+    		if (passwordEncoder.upgradeEncoding(user.passwordHash())) {
+    			userRepository.updatePasswordHash(user.id(), user.passwordHash(), passwordEncoder.encode(password));
+    			userLookupCache.invalidate(user.username()); // 캐시에 남은 예전 해시 제거
+    		}
+    		
+    		// 4. 로그인 성공 시, username과 사용자 ID로 JWT 토큰 생성
+    		return jwtTokenProvider.createToken(user.username(), user.id());
+    	});
     }
 
 }
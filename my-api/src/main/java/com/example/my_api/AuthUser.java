@@ -0,0 +1,18 @@
+package com.example.my_api;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * JWT 토큰에서 꺼낸 '현재 로그인한 사용자' 정보 (Authentication의 principal)
+ * 토큰에 사용자 ID(uid 클레임)가 들어 있으므로, 쓰기 요청마다 users 테이블을 조회할 필요가 없음
+ * @param id 사용자 ID (uid 클레임이 없는 예전 토큰이면 null)
+ * @param username 사용자 이름 (토큰의 subject)
+ */
+public record AuthUser(Long id, String username) implements AuthenticatedPrincipal {
+
+	// Authentication.getName() 이 이 값을 사용함
+	@Override
+	public String getName() {
+		return username;
+	}
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,9 +15,14 @@ import lombok.NoArgsConstructor;
 @Data 					// Lombok : Getter/Setter 등을 자동으로 만듦
 @NoArgsConstructor 		// Lombok : 기본 생성자
 @AllArgsConstructor 	// Lombok : 모든 필드를 받는 생성자
+@DynamicUpdate			// 수정 시 '바뀐 컬럼만' UPDATE
+						// (comment_count는 별도 UPDATE 문으로 증감하므로, 게시글 수정이 옛 값으로 덮어쓰지 않도록)
 public class Board {
     @Id // 이 필드를 기본키(PK)로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID 자동 증가 설정
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    // 시퀀스에서 ID를 50개씩 미리 받아두고(pooled) 메모리에서 나눠 씀
+    // (IDENTITY는 INSERT를 실행해야 ID를 알 수 있어서 Hibernate가 INSERT 배치를 꺼버림)
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
 	private long id;
     
 	private String title;
@@ -27,4 +34,14 @@ public class Board {
 										// 필요할 때 불러오도록 해서 성능을 최적화
 	@JoinColumn(name = "user_id")		// 외래키(FK) 컬럼 이름을 'user_id'로 지정
 	private User author; // User 엔티티 타입
+	
+	@Version	// 수정될 때마다 JPA가 1씩 증가시키는 버전 컬럼
+				// 조건부 GET(ETag / 304)에서 '내용이 바뀌었는지'를 판단하는 값으로 사용
+	private Long version;
+	
+	// 댓글 수 (비정규화 컬럼)
+	// 목록에서 게시글마다 COUNT 쿼리를 실행하지 않도록 댓글 작성/삭제 시 함께 증감
+	// (엔티티로 값을 바꾸지 않고, BoardRepository의 상대 UPDATE 문으로만 변경)
+	@Column(nullable = false)
+	private long commentCount;
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.example.my_api; 
 
-import org.springframework.data.domain.Page;
+import java.io.IOException;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,37 +17,95 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController 		// 1. @Controller + @ResponseBody
 						//    이 클래스의 모든 메서드는 HTML 페이지가 아닌,
 						//    JSON/데이터 자체를 반환(Response Body)함을 선언
 @RequestMapping("/api") // 2. 이 컨트롤러의 모든 메서드에 공통 URL(/api)을 부여
 public class BoardController {
-	
+
+	// 커서 방식 목록 조회에서 한 번에 가져올 수 있는 최대 개수
+	private static final int MAX_PAGE_SIZE = 100;
+
 	// 3. Service 계층을 생성자 주입 방식으로 DI 받음
     private final BoardService boardService;
+    private final BoardImportService boardImportService; // 일괄 등록
 
-    public BoardController(BoardService boardService) {
+    public BoardController(BoardService boardService, BoardImportService boardImportService) {
         this.boardService = boardService;
+        this.boardImportService = boardImportService;
     }
 
     // GET (전체)
     @CrossOrigin(origins = "http://localhost:3000")
     @GetMapping("/board")
-    public Page<BoardResponseDTO> getBoardList(
+    // 응답 : {"items": [...], "page", "size", "totalElements", "totalPages", "hasNext"} (PageImpl을 그대로 내보내지 않음)
+    public PageResponseDTO<BoardSummaryDTO> getBoardList(
     		@PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) // @PageableDefault : URL 파라미터가 없을 경우 기본값 설정
     		Pageable pageable) {
     	
-        return boardService.getAllBoards(pageable);
+        return PageResponseDTO.of(boardService.getAllBoards(pageable));
+    }
+
+    // GET (전체, 커서 방식)
+    // - 첫 페이지 : GET /api/board?after=&size=20
+    // - 다음 페이지 : GET /api/board?after={응답의 nextCursor}&size=20
+    // 'after' 파라미터가 있을 때만 이 메서드로 매핑됨 (없으면 위의 페이지 번호 방식)
+    @CrossOrigin(origins = "http://localhost:3000")
+    @GetMapping(value = "/board", params = "after")
+    public PageResponseDTO<BoardSummaryDTO> getBoardListByCursor(
+    		@RequestParam("after") String after,
+    		@RequestParam(value = "size", defaultValue = "10") int size) {
+
+    	return boardService.getBoardsAfter(after, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    // GET (검색)
+    // - GET /api/board/search?q=게시판&page=0&size=10
+    // - 검색어의 모든 단어를 포함하는 게시글을 검색 점수 순으로 반환 (Page 형식은 목록과 동일)
+    @CrossOrigin(origins = "http://localhost:3000")
+    @GetMapping("/board/search")
+    public PageResponseDTO<BoardSummaryDTO> searchBoards(
+    		@RequestParam("q") String query,
+    		@PageableDefault(size = 10) Pageable pageable) {
+
+    	return PageResponseDTO.of(boardService.searchBoards(query, pageable));
     }
 
     // GET (1개)
     @CrossOrigin(origins = "http://localhost:3000")
     @GetMapping("/board/{id}")
-    public BoardResponseDTO getBoardDetail(@PathVariable("id") Long id) {
-        return boardService.getBoardById(id);
+    // - ETag : 게시글 버전 + 댓글 수로 만든 강한 ETag
+    // - If-None-Match 가 현재 ETag와 같으면 DTO 생성/JSON 변환 없이 304 Not Modified
+    public ResponseEntity<BoardResponseDTO> getBoardDetail(
+    		@PathVariable("id") Long id,
+    		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    	
+    	if (ifNoneMatch != null) {
+    		// 버전 값만 확인 (캐시 또는 버전 컬럼만 읽는 쿼리)
+    		String etag = boardService.getBoardETag(id);
+    		if (etag != null && ETags.matches(ifNoneMatch, etag)) {
+    			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+    					.eTag(etag)
+    					.cacheControl(CacheControl.noCache())
+    					.build();
+    		}
+    	}
+    	
+        BoardResponseDTO board = boardService.getBoardById(id);
+        if (board == null) {
+        	return ResponseEntity.ok().build(); // (기존과 동일하게 없는 게시글은 빈 응답)
+        }
+        return ResponseEntity.ok()
+        		.eTag(BoardService.etagOf(board))
+        		.cacheControl(CacheControl.noCache()) // 캐시는 하되, 쓰기 전에 항상 ETag로 재검증
+        		.body(board);
     }
 
     // POST (생성)
@@ -54,6 +117,16 @@ public class BoardController {
         return boardService.createBoard(newBoard);
     }
 
+    // POST (일괄 생성)
+    // 요청 본문 : [{"title": "...", "content": "...", "comments": [{"content": "..."}]}, ...]
+    // @RequestBody로 받으면 배열 전체가 한 번에 List로 변환되므로,
+    // 입력 스트림을 그대로 넘겨서 서비스에서 원소 하나씩 읽으며 배치로 저장
+    @CrossOrigin(origins = "http://localhost:3000")
+    @PostMapping(value = "/board/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BoardImportResultDTO importBoards(HttpServletRequest request) throws IOException {
+        return boardImportService.importBoards(request.getInputStream());
+    }
+
     // PUT (수정)
     @CrossOrigin(origins = "http://localhost:3000")
     @PutMapping("/board/{id}")
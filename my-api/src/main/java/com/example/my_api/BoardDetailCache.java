@@ -0,0 +1,86 @@
+package com.example.my_api;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 게시글 상세(BoardResponseDTO) 로컬 캐시 (read-through)
+ * - 최대 개수 + 유효 시간(TTL)으로 크기를 제한
+ * - Caffeine의 W-TinyLFU 정책 : 최근성뿐 아니라 '자주 조회되는 정도'를 보고 교체 대상을 고름
+ *   (조회가 몰리는 인기 게시글은 오래 남고, 한 번 보고 마는 게시글은 빨리 밀려남)
+ * - 적중/미스/교체 횟수는 Micrometer 메트릭(cache.gets, cache.evictions 등)으로 노출
+ */
+@Component
+public class BoardDetailCache {
+
+	private static final String CACHE_NAME = "boardDetail";
+
+	private final Cache<Long, BoardResponseDTO> cache;
+
+	public BoardDetailCache(@Value("${board.cache.max-size}") long maxSize,
+			@Value("${board.cache.ttl-seconds}") long ttlSeconds,
+			MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats() // 적중/미스/교체 통계 기록
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * 캐시에 있으면 바로 반환, 없으면 loader로 DB에서 읽어와서 캐시에 저장
+	 * 같은 키에 대한 로딩은 Caffeine이 원자적으로 한 번만 실행 (동시에 몰려도 DB 조회 1번)
+	 * loader가 null을 반환하면(게시글 없음) 캐시에 저장하지 않음
+	 */
+	public BoardResponseDTO get(Long id, Function<Long, BoardResponseDTO> loader) {
+		return cache.get(id, loader);
+	}
+
+	// 캐시에 있으면 반환, 없으면 null (DB 조회는 하지 않음)
+	public BoardResponseDTO getIfPresent(Long id) {
+		return cache.getIfPresent(id);
+	}
+
+	/**
+	 * 게시글이 수정/삭제되었을 때 해당 캐시 항목만 정확히 제거
+	 * 트랜잭션 안에서 호출되면 '커밋 이후'에 제거함
+	 * -> 커밋 전에 지우면, 그 사이 다른 요청이 아직 커밋 안 된(이전) 값을 읽어서 다시 캐시에 넣을 수 있음
+	 * 또한 로딩 중인 키를 invalidate 하면 로딩이 끝날 때까지 기다렸다가 지우므로,
+	 * 수정 전에 시작된 조회가 옛 값을 캐시에 남기는 일도 없음
+	 */
+	public void evict(Long id) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(id);
+				}
+			});
+		} else {
+			cache.invalidate(id);
+		}
+	}
+
+	// 전체 항목 제거 (댓글 수 일괄 보정처럼 여러 게시글이 한 번에 바뀌었을 때)
+	public void evictAll() {
+		cache.invalidateAll();
+	}
+
+	// 현재까지의 캐시 통계 (적중/미스/교체 횟수)
+	public CacheStats stats() {
+		return cache.stats();
+	}
+}
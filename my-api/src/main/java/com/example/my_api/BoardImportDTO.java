@@ -0,0 +1,17 @@
+package com.example.my_api;
+
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * 게시글 일괄 등록(POST /api/board/bulk) 요청 배열의 원소 1개
+ * 예 : [{"title": "...", "content": "...", "comments": [{"content": "..."}]}, ...]
+ * (작성자는 Security에서 가져오고, 댓글은 없어도 됨)
+ */
+@Data
+public class BoardImportDTO {
+	private String title;
+	private String content;
+	private List<CommentRequestDTO> comments; // 함께 등록할 댓글 (선택)
+}
@@ -0,0 +1,22 @@
+package com.example.my_api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 일괄 등록 결과 DTO
+ * 등록된 게시글/댓글 수와 처리 시간을 담음
+ */
+@Getter
+@AllArgsConstructor
+public class BoardImportResultDTO {
+	private final long boardCount;		// 등록된 게시글 수
+	private final long commentCount;	// 등록된 댓글 수
+	private final long elapsedMillis;	// 처리 시간 (ms)
+
+	// 초당 처리 행 수 (게시글 + 댓글)
+	public long getRowsPerSecond() {
+		return elapsedMillis == 0 ? boardCount + commentCount
+				: (boardCount + commentCount) * 1000 / elapsedMillis;
+	}
+}
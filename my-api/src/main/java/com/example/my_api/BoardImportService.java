@@ -0,0 +1,150 @@
+package com.example.my_api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * 게시글(+ 댓글) 일괄 등록 (예전 게시판 데이터 이전용)
+ * - 요청 본문(JSON 배열)을 한 번에 메모리에 올리지 않고 Jackson 스트리밍 파서로 원소 하나씩 읽음
+ * - batch_size 개수만큼 persist 한 뒤 flush + clear
+ *   -> INSERT는 JDBC 배치로 묶여서 전송되고, 영속성 컨텍스트도 배치 크기 이상 커지지 않음
+ * - 전체가 하나의 트랜잭션이라 중간에 실패하면 아무것도 등록되지 않음
+ */
+@Service
+public class BoardImportService {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final ObjectMapper objectMapper;
+	private final CurrentUserResolver currentUserResolver;
+	private final BoardSearchIndex boardSearchIndex;
+	private final int batchSize;
+
+	public BoardImportService(ObjectMapper objectMapper, CurrentUserResolver currentUserResolver,
+			BoardSearchIndex boardSearchIndex,
+			@Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+		this.objectMapper = objectMapper;
+		this.currentUserResolver = currentUserResolver;
+		this.boardSearchIndex = boardSearchIndex;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * JSON 배열 스트림을 읽어서 게시글과 댓글을 배치 INSERT
+	 * @param in 요청 본문 ([{"title", "content", "comments": [{"content"}]}, ...])
+	 * @return 등록된 게시글/댓글 수와 처리 시간
+	 */
+	@Transactional
+	public BoardImportResultDTO importBoards(InputStream in) throws IOException {
+		long start = System.nanoTime();
+		AuthUser currentUser = currentUserResolver.get();
+
+		long boardCount = 0;
+		long commentCount = 0;
+		int pending = 0; // 마지막 flush 이후 persist 한 행 수
+		long minId = Long.MAX_VALUE; // 등록된 게시글 ID 범위 (검색 색인 갱신용)
+		long maxId = Long.MIN_VALUE;
+
+		try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청 본문은 JSON 배열이어야 합니다.");
+			}
+
+			// 작성자는 SELECT 없이 참조 프록시로만 사용 (clear 후에는 다시 얻어야 함)
+			User author = entityManager.getReference(User.class, currentUser.id());
+
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				BoardImportDTO item = objectMapper.readValue(parser, BoardImportDTO.class);
+				List<CommentRequestDTO> comments = item.getComments() != null ? item.getComments() : List.of();
+
+				Board board = new Board();
+				board.setTitle(item.getTitle());
+				board.setContent(item.getContent());
+				board.setAuthor(author);
+				board.setCommentCount(comments.size()); // 댓글 수 컬럼도 함께 채워서 UPDATE가 따로 필요 없음
+				entityManager.persist(board);
+				minId = Math.min(minId, board.getId());
+				maxId = Math.max(maxId, board.getId());
+				boardCount++;
+				pending++;
+
+				for (CommentRequestDTO request : comments) {
+					if (request.getContent() == null || request.getContent().isBlank()) {
+						throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+								boardCount + "번째 게시글에 내용이 비어 있는 댓글이 있습니다.");
+					}
+					Comment comment = new Comment();
+					comment.setContent(request.getContent());
+					comment.setBoard(board);
+					comment.setAuthor(author);
+					entityManager.persist(comment);
+					commentCount++;
+					pending++;
+				}
+
+				if (pending >= batchSize) {
+					flushAndClear();
+					pending = 0;
+					author = entityManager.getReference(User.class, currentUser.id());
+				}
+			}
+
+			if (parser.currentToken() != JsonToken.END_ARRAY) {
+				throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "배열의 원소는 게시글 객체여야 합니다.");
+			}
+			flushAndClear();
+		} catch (JsonProcessingException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "JSON 형식이 올바르지 않습니다.", e);
+		}
+
+		// 게시글 내용을 메모리에 모아두지 않고, 커밋 후 등록된 ID 범위를 DB에서 다시 읽어서 색인
+		if (boardCount > 0) {
+			boardSearchIndex.indexRange(minId, maxId);
+		}
+
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		return new BoardImportResultDTO(boardCount, commentCount, elapsedMillis);
+	}
+
+	// 모아둔 INSERT를 배치로 전송하고 영속성 컨텍스트를 비움 (메모리 사용량을 배치 크기로 제한)
+	private void flushAndClear() {
+		try {
+			entityManager.flush();
+		} catch (PersistenceException e) {
+			// 사용자를 미리 조회하지 않으므로, 없는 사용자는 user_id FK 제약 위반으로 알게 됨
+			// (EntityManager를 직접 쓰면 Spring 예외로 변환되지 않고, Hibernate 예외가 PersistenceException에 감싸여 올라옴)
+			if (isConstraintViolation(e)) {
+				throw new ResponseStatusException(HttpStatus.NOT_FOUND, "현재 로그인된 사용자를 찾을 수 없습니다.", e);
+			}
+			throw e;
+		}
+		entityManager.clear();
+	}
+
+	private static boolean isConstraintViolation(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,6 +1,16 @@
-package com.example.my_api; 
+package com.example.my_api;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 //JpaRepository<[관리할 Entity 클래스], [Entity의 ID 필드 타입]>
 //JpaRepository를 상속받는 인터페이스를 만드는 것만으로,
 //Spring Data JPA가 자동으로 이 인터페이스의 구현체를 만듦
@@ -8,4 +18,71 @@ import org.springframework.data.jpa.repository.JpaRepository;
 //이 구현체에는 findAll(), findById(), save(), deleteById() 등
 //기본적인 CRUD 메서드들이 이미 모두 포함
 public interface BoardRepository extends JpaRepository<Board, Long> {
-}
\ No newline at end of file
+
+	// [목록 프로젝션] 목록에 필요한 컬럼 + 본문 앞부분(미리보기)만 조회
+	// 본문 전체(content)는 SELECT 하지 않고 DB에서 substring으로 잘라서 가져옴
+	// -> 긴 게시글이 많아도 힙 사용량, JSON 변환 시간, 응답 크기가 본문 길이와 무관
+	// 작성자 이름은 조인으로 함께 가져와서 게시글마다 users SELECT가 추가되지 않음(N+1 방지)
+	@Query(value = "select new com.example.my_api.BoardSummaryDTO(b.id, b.title, "
+			+ "substring(b.content, 1, " + BoardSummaryDTO.PREVIEW_LENGTH + "), a.username, b.commentCount) "
+			+ "from Board b left join b.author a",
+			countQuery = "select count(b) from Board b")
+	Page<BoardSummaryDTO> findAllSummaries(Pageable pageable);
+
+	// [커서 페이지네이션] "WHERE id < ? ORDER BY id DESC LIMIT size+1"
+	// Slice는 다음 페이지 존재 여부만 확인하므로 COUNT 쿼리를 실행하지 않음
+	// (OFFSET 없이 PK 인덱스에서 바로 시작 위치를 찾으므로 깊은 페이지도 일정한 속도)
+	@Query("select new com.example.my_api.BoardSummaryDTO(b.id, b.title, "
+			+ "substring(b.content, 1, " + BoardSummaryDTO.PREVIEW_LENGTH + "), a.username, b.commentCount) "
+			+ "from Board b left join b.author a where b.id < :id")
+	Slice<BoardSummaryDTO> findSummariesByIdLessThan(@Param("id") long id, Pageable pageable);
+
+	// [상세 프로젝션] 게시글 상세 1건 (본문 전체 + 작성자 이름, 조인 쿼리 1번)
+	@Query("select new com.example.my_api.BoardResponseDTO(b.id, b.title, b.content, a.username, b.version, b.commentCount) "
+			+ "from Board b left join b.author a where b.id = :id")
+	Optional<BoardResponseDTO> findDtoById(@Param("id") Long id);
+
+	// [검색 결과] 검색 색인이 고른 게시글 ID들의 요약 (순서는 호출하는 쪽에서 점수 순으로 맞춤)
+	@Query("select new com.example.my_api.BoardSummaryDTO(b.id, b.title, "
+			+ "substring(b.content, 1, " + BoardSummaryDTO.PREVIEW_LENGTH + "), a.username, b.commentCount) "
+			+ "from Board b left join b.author a where b.id in :ids")
+	List<BoardSummaryDTO> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	// [검색 색인용] ID 범위 (afterId, maxId] 의 게시글 전체 내용 (BoardSearchIndex가 ID 순으로 나눠 읽음)
+	@Query("select new com.example.my_api.BoardResponseDTO(b.id, b.title, b.content, a.username, b.version, b.commentCount) "
+			+ "from Board b left join b.author a where b.id > :afterId and b.id <= :maxId")
+	List<BoardResponseDTO> findDtosInIdRange(@Param("afterId") long afterId, @Param("maxId") long maxId, Pageable pageable);
+
+	// [조건부 GET] 게시글의 버전 문자열만 조회 (본문/작성자를 읽지 않는 PK 조회 1번)
+	// "버전-댓글수" 형식 : 게시글이 수정되거나 댓글 수가 바뀌면 값이 달라짐
+	// If-None-Match 와 비교해서 같으면 DTO를 만들지 않고 304로 응답
+	@Query("select concat(cast(b.version as String), '-', cast(b.commentCount as String)) "
+			+ "from Board b where b.id = :id")
+	Optional<String> findVersionTagById(@Param("id") Long id);
+
+	// [댓글 수 증가] 읽지 않고 DB에서 바로 +1 (상대 UPDATE라서 동시에 댓글이 달려도 값이 유실되지 않음)
+	// JPQL UPDATE는 @Version 값을 올리지 않으므로, 댓글 작성이 게시글 수정과 충돌하지 않음
+	// @return 변경된 행 수 (0이면 게시글 없음)
+	@Modifying
+	@Query("update Board b set b.commentCount = b.commentCount + 1 where b.id = :id")
+	int incrementCommentCount(@Param("id") Long id);
+
+	// [댓글 수 감소] 0 아래로 내려가지 않도록 조건 추가
+	@Modifying
+	@Query("update Board b set b.commentCount = b.commentCount - 1 where b.id = :id and b.commentCount > 0")
+	int decrementCommentCount(@Param("id") Long id);
+
+	// [게시글 삭제] 권한 검사와 삭제를 조건부 DELETE 문 1번으로 처리 (조회 없음)
+	// @return 삭제된 행 수 (0이면 게시글이 없거나 작성자가 아님)
+	@Modifying
+	@Query("delete from Board b where b.id = :id and b.author.id = :authorId")
+	int deleteByIdAndAuthorId(@Param("id") Long id, @Param("authorId") Long authorId);
+
+	// [댓글 수 일괄 보정] 실제 댓글 수와 다른 게시글만 한 번의 UPDATE 문으로 다시 계산
+	// (요청 처리 경로가 아닌 CommentCountReconciler 배치 작업에서만 사용)
+	// @return 보정된 게시글 수
+	@Modifying
+	@Query("update Board b set b.commentCount = (select count(c) from Comment c where c.board = b) "
+			+ "where b.commentCount <> (select count(c) from Comment c where c.board = b)")
+	int reconcileCommentCounts();
+}
@@ -12,13 +12,28 @@ public class BoardResponseDTO {
 	private String title;
 	private String content;
 	private String authorUsername;
+	private long version; // 게시글 버전 (ETag 값으로 사용)
+	private long commentCount; // 댓글 수
 	
+	// JPQL 생성자 표현식(select new ...)을 위한 생성자
+	// Board와 작성자(User)를 한 번의 조인 쿼리로 조회할 때 사용 (N+1 방지)
+	public BoardResponseDTO(long id, String title, String content, String authorUsername, Long version, long commentCount) {
+		this.id = id;
+		this.title = title;
+		this.content = content;
+		this.authorUsername = authorUsername;
+		this.version = (version != null) ? version : 0L;
+		this.commentCount = commentCount;
+	}
+
 	// Entity -> DTO 변환을 위한 생성자
 	public BoardResponseDTO(Board board) {
 		this.id = board.getId();
 		this.title = board.getTitle();
 		this.content = board.getContent();
 		this.authorUsername = (board.getAuthor() != null) ? board.getAuthor().getUsername() : null;
+		this.version = (board.getVersion() != null) ? board.getVersion() : 0L;
+		this.commentCount = board.getCommentCount();
 		
 	}
 
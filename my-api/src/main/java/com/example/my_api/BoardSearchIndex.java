@@ -0,0 +1,570 @@
+package com.example.my_api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 제목/본문 전문 검색용 메모리 역색인 (inverted index)
+ * - 단어(term) -> 그 단어가 들어 있는 게시글 ID 목록(posting list)
+ * - posting list는 ID 오름차순으로 정렬된 long[] + 가중치 int[] (Set<Long>처럼 ID마다 객체를 만들지 않음)
+ * - 수정/삭제용 역방향 정보(게시글 ID -> 단어)는 단어 번호를 오름차순 차이값 varint로 압축한 byte[]
+ *   (단어 1개당 보통 1~2바이트, 게시글 ID는 long[] 해시 테이블이라 Long/Map.Entry 객체도 없음)
+ * - 한글은 형태소 분석 없이 2글자씩 끊어서(bigram) 색인 -> "게시판" = "게시", "시판"
+ *   (조사가 붙어도 "게시판을"에 "게시", "시판"이 그대로 들어 있으므로 검색됨)
+ * - 검색어의 모든 단어를 포함하는 게시글만 골라서(AND) TF-IDF 점수 순으로 정렬
+ * - 애플리케이션 시작 시 DB에서 한 번 만들고, 이후에는 게시글 생성/수정/삭제 '커밋 이후'에 해당 게시글만 갱신
+ */
+@Component
+@Slf4j
+public class BoardSearchIndex {
+
+	private static final int TITLE_WEIGHT = 3;			// 제목에 나온 단어는 본문보다 3배 가중치
+	private static final int LOAD_BATCH_SIZE = 1_000;	// 시작 시 DB에서 한 번에 읽어올 게시글 수
+
+	private final BoardRepository boardRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, PostingList> postings = new HashMap<>();	// 단어 -> 게시글 ID 목록
+	private PostingList[] termsByOrdinal = new PostingList[1_024];			// 단어 번호 -> 게시글 ID 목록
+	private int[] freeOrdinals = new int[16];	// 비워진 단어의 번호 (다시 사용)
+	private int freeOrdinalCount;
+	private int ordinalCount;
+	private final DocumentTerms documentTerms = new DocumentTerms();	// 게시글 ID -> 색인된 단어 번호 (수정/삭제 시 posting에서 빼기 위함)
+	private Set<Long> changedDuringBuild; // 초기 색인 중에 생성/수정/삭제된 게시글 (초기 색인이 옛 값으로 덮어쓰지 않도록)
+
+	public BoardSearchIndex(BoardRepository boardRepository) {
+		this.boardRepository = boardRepository;
+	}
+
+	/**
+	 * 검색 결과 (현재 페이지의 게시글 ID를 점수 순으로, 전체 일치 개수)
+	 */
+	public record Result(List<Long> ids, long total) {
+	}
+
+	// --- 색인 생성 / 갱신 ---
+
+	// 애플리케이션이 준비되면 DB의 모든 게시글을 ID 순으로 나눠 읽어서 색인
+	@EventListener(ApplicationReadyEvent.class)
+	public void build() {
+		long start = System.nanoTime();
+		lock.writeLock().lock();
+		try {
+			changedDuringBuild = new HashSet<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		int count = loadRange(0, Long.MAX_VALUE);
+
+		lock.writeLock().lock();
+		try {
+			changedDuringBuild = null;
+			postings.values().forEach(PostingList::trimToSize); // 증가 여유분 정리
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("게시글 검색 색인 완료 : 게시글 {}건, 단어 {}개 ({} ms)", count, postings.size(),
+				(System.nanoTime() - start) / 1_000_000);
+	}
+
+	// ID가 (afterId, maxId] 범위인 게시글을 DB에서 읽어서 색인 (이미 있으면 교체)
+	private int loadRange(long afterId, long maxId) {
+		int count = 0;
+		while (true) {
+			List<BoardResponseDTO> boards = boardRepository.findDtosInIdRange(afterId, maxId,
+					PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by(Sort.Direction.ASC, "id")));
+			if (boards.isEmpty()) {
+				return count;
+			}
+			lock.writeLock().lock();
+			try {
+				for (BoardResponseDTO board : boards) {
+					if (changedDuringBuild == null || !changedDuringBuild.contains(board.getId())) {
+						put(board.getId(), board.getTitle(), board.getContent());
+					}
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+			count += boards.size();
+			afterId = boards.get(boards.size() - 1).getId();
+		}
+	}
+
+	// 게시글 색인 (생성/수정, 트랜잭션 안이면 커밋 이후에 반영)
+	public void index(long id, String title, String content) {
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				markChanged(id);
+				put(id, title, content);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	// 게시글 색인 제거 (삭제, 트랜잭션 안이면 커밋 이후에 반영)
+	public void remove(long id) {
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				markChanged(id);
+				delete(id);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	// ID 범위의 게시글을 DB에서 다시 읽어서 색인 (일괄 등록처럼 게시글 내용을 메모리에 들고 있지 않을 때)
+	public void indexRange(long minId, long maxId) {
+		afterCommit(() -> loadRange(minId - 1, maxId));
+	}
+
+	// 롤백된 변경이 색인에 남지 않도록 커밋 이후에 실행 (BoardDetailCache.evict 와 같은 방식)
+	private static void afterCommit(Runnable task) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+		} else {
+			task.run();
+		}
+	}
+
+	private void markChanged(long id) {
+		if (changedDuringBuild != null) {
+			changedDuringBuild.add(id);
+		}
+	}
+
+	// (쓰기 잠금 안에서 호출)
+	private void put(long id, String title, String content) {
+		delete(id);
+
+		Map<String, Integer> weights = new HashMap<>();
+		for (String term : tokenize(title)) {
+			weights.merge(term, TITLE_WEIGHT, Integer::sum);
+		}
+		for (String term : tokenize(content)) {
+			weights.merge(term, 1, Integer::sum);
+		}
+
+		int[] ordinals = new int[weights.size()];
+		int i = 0;
+		for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+			PostingList list = postings.computeIfAbsent(entry.getKey(), term -> new PostingList(term, newOrdinal()));
+			termsByOrdinal[list.ordinal] = list;
+			list.put(id, entry.getValue());
+			ordinals[i++] = list.ordinal;
+		}
+		documentTerms.put(id, encodeOrdinals(ordinals));
+	}
+
+	// (쓰기 잠금 안에서 호출)
+	private void delete(long id) {
+		byte[] terms = documentTerms.remove(id);
+		if (terms == null) {
+			return;
+		}
+		int pos = 0;
+		int ordinal = 0;
+		while (pos < terms.length) {
+			// varint 읽기 (7비트씩, 최상위 비트 = 다음 바이트가 이어짐)
+			int delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = terms[pos++];
+				delta |= (b & 0x7F) << shift;
+				shift += 7;
+			} while (b < 0);
+			ordinal += delta;
+
+			PostingList list = termsByOrdinal[ordinal];
+			if (list.remove(id) && list.size == 0) {
+				postings.remove(list.term);
+				termsByOrdinal[ordinal] = null;
+				releaseOrdinal(ordinal);
+			}
+		}
+	}
+
+	// 단어 번호 발급 (비워진 번호가 있으면 재사용, 단어 수만큼만 늘어남)
+	private int newOrdinal() {
+		if (freeOrdinalCount > 0) {
+			return freeOrdinals[--freeOrdinalCount];
+		}
+		if (ordinalCount == termsByOrdinal.length) {
+			termsByOrdinal = Arrays.copyOf(termsByOrdinal, ordinalCount * 2);
+		}
+		return ordinalCount++;
+	}
+
+	private void releaseOrdinal(int ordinal) {
+		if (freeOrdinalCount == freeOrdinals.length) {
+			freeOrdinals = Arrays.copyOf(freeOrdinals, freeOrdinalCount * 2);
+		}
+		freeOrdinals[freeOrdinalCount++] = ordinal;
+	}
+
+	// 단어 번호를 정렬해서 이전 번호와의 차이를 varint로 기록 (차이가 128 미만이면 1바이트)
+	private static byte[] encodeOrdinals(int[] ordinals) {
+		Arrays.sort(ordinals);
+		byte[] buffer = new byte[ordinals.length * 5];
+		int pos = 0;
+		int previous = 0;
+		for (int ordinal : ordinals) {
+			int delta = ordinal - previous;
+			previous = ordinal;
+			while ((delta & ~0x7F) != 0) {
+				buffer[pos++] = (byte) ((delta & 0x7F) | 0x80);
+				delta >>>= 7;
+			}
+			buffer[pos++] = (byte) delta;
+		}
+		return Arrays.copyOf(buffer, pos);
+	}
+
+	// --- 검색 ---
+
+	/**
+	 * 검색어의 모든 단어를 포함하는 게시글을 점수 순으로 조회
+	 * @param query 검색어
+	 * @param offset 건너뛸 결과 수 (페이지 번호 * 페이지 크기)
+	 * @param limit 가져올 결과 수 (페이지 크기)
+	 */
+	public Result search(String query, long offset, int limit) {
+		Set<String> terms = new LinkedHashSet<>(tokenize(query));
+		if (terms.isEmpty() || limit <= 0) {
+			return new Result(List.of(), 0);
+		}
+
+		long[] matchIds;
+		double[] scores;
+		int matchCount = 0;
+
+		lock.readLock().lock();
+		try {
+			PostingList[] lists = new PostingList[terms.size()];
+			int n = 0;
+			for (String term : terms) {
+				PostingList list = postings.get(term);
+				if (list == null) {
+					return new Result(List.of(), 0); // 없는 단어가 하나라도 있으면 결과 없음 (AND)
+				}
+				lists[n++] = list;
+			}
+			// 가장 짧은 목록을 기준으로 나머지 목록에서 같은 ID를 찾음 (교집합 비용 = 짧은 목록 길이 * log)
+			Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+			double documentCount = documentTerms.size();
+			double[] idf = new double[lists.length];
+			for (int i = 0; i < lists.length; i++) {
+				idf[i] = Math.log(1 + documentCount / lists[i].size);
+			}
+
+			PostingList base = lists[0];
+			int[] cursors = new int[lists.length];
+			matchIds = new long[base.size];
+			scores = new double[base.size];
+
+			candidates:
+			for (int i = 0; i < base.size; i++) {
+				long id = base.ids[i];
+				double score = base.weights[i] * idf[0];
+				for (int j = 1; j < lists.length; j++) {
+					int pos = lists[j].indexOf(id, cursors[j]);
+					if (pos < 0) {
+						cursors[j] = -pos - 1; // 다음 후보는 이 위치부터 찾으면 됨 (ID 오름차순)
+						continue candidates;
+					}
+					cursors[j] = pos + 1;
+					score += lists[j].weights[pos] * idf[j];
+				}
+				matchIds[matchCount] = id;
+				scores[matchCount] = score;
+				matchCount++;
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (offset >= matchCount) {
+			return new Result(List.of(), matchCount);
+		}
+		int[] top = topK(matchIds, scores, matchCount, (int) Math.min(matchCount, offset + limit));
+		List<Long> ids = new ArrayList<>(limit);
+		for (int i = (int) offset; i < top.length; i++) {
+			ids.add(matchIds[top[i]]);
+		}
+		return new Result(ids, matchCount);
+	}
+
+	// 점수 상위 k개의 위치를 점수 내림차순(같으면 최신 ID 먼저)으로 반환
+	// (일치한 결과 전체를 정렬하지 않고 크기 k의 최소 힙으로 골라냄)
+	private static int[] topK(long[] ids, double[] scores, int count, int k) {
+		int[] heap = new int[k];
+		int size = 0;
+		for (int i = 0; i < count; i++) {
+			if (size < k) {
+				heap[size] = i;
+				siftUp(heap, size++, ids, scores);
+			} else if (better(i, heap[0], ids, scores)) {
+				heap[0] = i;
+				siftDown(heap, size, ids, scores);
+			}
+		}
+		// 힙에서 가장 낮은 것부터 꺼내서 뒤에서부터 채움
+		int[] sorted = new int[size];
+		for (int last = size - 1; last >= 0; last--) {
+			sorted[last] = heap[0];
+			heap[0] = heap[last];
+			siftDown(heap, last, ids, scores);
+		}
+		return sorted;
+	}
+
+	private static boolean better(int a, int b, long[] ids, double[] scores) {
+		return scores[a] != scores[b] ? scores[a] > scores[b] : ids[a] > ids[b];
+	}
+
+	private static void siftUp(int[] heap, int i, long[] ids, double[] scores) {
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (!better(heap[parent], heap[i], ids, scores)) {
+				break;
+			}
+			swap(heap, i, parent);
+			i = parent;
+		}
+	}
+
+	private static void siftDown(int[] heap, int size, long[] ids, double[] scores) {
+		int i = 0;
+		while (true) {
+			int smallest = i;
+			int left = 2 * i + 1;
+			int right = left + 1;
+			if (left < size && better(heap[smallest], heap[left], ids, scores)) {
+				smallest = left;
+			}
+			if (right < size && better(heap[smallest], heap[right], ids, scores)) {
+				smallest = right;
+			}
+			if (smallest == i) {
+				return;
+			}
+			swap(heap, i, smallest);
+			i = smallest;
+		}
+	}
+
+	private static void swap(int[] heap, int a, int b) {
+		int tmp = heap[a];
+		heap[a] = heap[b];
+		heap[b] = tmp;
+	}
+
+	// --- 토큰화 ---
+
+	/**
+	 * 텍스트를 색인 단어로 나눔
+	 * - 글자/숫자가 아닌 문자(공백, 문장부호)에서 끊고, 영문은 소문자로 통일
+	 * - 한글 덩어리는 2글자씩 겹쳐서 자름 (한 글자 단어는 그대로)
+	 * - 영문/숫자 덩어리는 단어 그대로
+	 */
+	static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+		String lower = text.toLowerCase(Locale.ROOT);
+		int length = lower.length();
+		int i = 0;
+		while (i < length) {
+			char c = lower.charAt(i);
+			if (!Character.isLetterOrDigit(c)) {
+				i++;
+				continue;
+			}
+			boolean hangul = isHangul(c);
+			int start = i;
+			while (i < length && Character.isLetterOrDigit(lower.charAt(i)) && isHangul(lower.charAt(i)) == hangul) {
+				i++;
+			}
+			if (!hangul || i - start == 1) {
+				tokens.add(lower.substring(start, i));
+			} else {
+				for (int j = start; j + 1 < i; j++) {
+					tokens.add(lower.substring(j, j + 2));
+				}
+			}
+		}
+		return tokens;
+	}
+
+	private static boolean isHangul(char c) {
+		return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+	}
+
+	/**
+	 * 단어 1개의 posting list (게시글 ID 오름차순 + 같은 위치의 가중치)
+	 * 새 게시글은 ID가 가장 크므로 보통 배열 끝에 추가됨
+	 */
+	private static final class PostingList {
+		private final String term;
+		private final int ordinal;
+		private long[] ids = new long[4];
+		private int[] weights = new int[4];
+		private int size;
+
+		private PostingList(String term, int ordinal) {
+			this.term = term;
+			this.ordinal = ordinal;
+		}
+
+		// from 위치부터 id를 이진 탐색 (없으면 -(삽입 위치) - 1)
+		private int indexOf(long id, int from) {
+			return Arrays.binarySearch(ids, from, size, id);
+		}
+
+		private void put(long id, int weight) {
+			int pos = indexOf(id, 0);
+			if (pos >= 0) {
+				weights[pos] = weight;
+				return;
+			}
+			pos = -pos - 1;
+			if (size == ids.length) {
+				int capacity = size + (size >> 1) + 1;
+				ids = Arrays.copyOf(ids, capacity);
+				weights = Arrays.copyOf(weights, capacity);
+			}
+			System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+			System.arraycopy(weights, pos, weights, pos + 1, size - pos);
+			ids[pos] = id;
+			weights[pos] = weight;
+			size++;
+		}
+
+		private boolean remove(long id) {
+			int pos = indexOf(id, 0);
+			if (pos < 0) {
+				return false;
+			}
+			System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+			System.arraycopy(weights, pos + 1, weights, pos, size - pos - 1);
+			size--;
+			return true;
+		}
+
+		private void trimToSize() {
+			if (size < ids.length) {
+				ids = Arrays.copyOf(ids, size);
+				weights = Arrays.copyOf(weights, size);
+			}
+		}
+	}
+
+	/**
+	 * 게시글 ID -> 압축된 단어 번호 (long 키 오픈 어드레싱 해시 테이블, 선형 탐사)
+	 * HashMap<Long, ...> 처럼 게시글마다 Long, Map.Entry 객체를 만들지 않음
+	 */
+	private static final class DocumentTerms {
+		private long[] keys = new long[16];
+		private byte[][] values = new byte[16][]; // null = 빈 칸
+		private int size;
+
+		private int size() {
+			return size;
+		}
+
+		private int slot(long key) {
+			long hash = key * 0x9E3779B97F4A7C15L;
+			return (int) (hash ^ (hash >>> 32)) & (keys.length - 1);
+		}
+
+		private void put(long key, byte[] value) {
+			if ((size + 1) * 2 > keys.length) {
+				resize(keys.length * 2);
+			}
+			int i = slot(key);
+			while (values[i] != null) {
+				if (keys[i] == key) {
+					values[i] = value;
+					return;
+				}
+				i = (i + 1) & (keys.length - 1);
+			}
+			keys[i] = key;
+			values[i] = value;
+			size++;
+		}
+
+		private byte[] remove(long key) {
+			int mask = keys.length - 1;
+			int i = slot(key);
+			while (values[i] != null && keys[i] != key) {
+				i = (i + 1) & mask;
+			}
+			byte[] removed = values[i];
+			if (removed == null) {
+				return null;
+			}
+			// 뒤에 이어진 칸들 중 원래 자리가 빈 칸 이전인 것을 앞으로 당김 (삭제 표시 없이 탐사 경로 유지)
+			int j = i;
+			while (true) {
+				j = (j + 1) & mask;
+				if (values[j] == null) {
+					break;
+				}
+				int home = slot(keys[j]);
+				if (i <= j ? (home <= i || home > j) : (home <= i && home > j)) {
+					keys[i] = keys[j];
+					values[i] = values[j];
+					i = j;
+				}
+			}
+			values[i] = null;
+			size--;
+			return removed;
+		}
+
+		private void resize(int capacity) {
+			long[] oldKeys = keys;
+			byte[][] oldValues = values;
+			keys = new long[capacity];
+			values = new byte[capacity][];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldValues[i] != null) {
+					put(oldKeys[i], oldValues[i]);
+				}
+			}
+		}
+	}
+}
@@ -1,13 +1,24 @@
 package com.example.my_api;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service // Spring이 이 클래스를 'Service' Bean으로 등록
 public class BoardService {
@@ -15,90 +26,202 @@ public class BoardService {
 	// 'final' : 불변성. 참조가 바뀌지 않음
 	// -> BoardRepository가 반드시 '생서자 주입'을 통해 초기화되어야 함을 강제
     private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository; // 게시글 삭제 시 댓글 일괄 삭제
     private final UserRepository userRepository;
+    private final BoardDetailCache boardDetailCache; // 게시글 상세 로컬 캐시
+    private final CurrentUserResolver currentUserResolver; // 현재 로그인한 사용자 (JWT 클레임)
+    private final BoardSearchIndex boardSearchIndex; // 제목/본문 검색 색인
 
     // 생성자 주입(Dependency Injection)
     // Spring이 자동으로 BoardRepository의 구현체(Bean)를 찾아서
     // 이 생성자의 파라미터로 '주입'
-    public BoardService(BoardRepository boardRepository, UserRepository userRepository) {
+    public BoardService(BoardRepository boardRepository, CommentRepository commentRepository, UserRepository userRepository, BoardDetailCache boardDetailCache,
+    		CurrentUserResolver currentUserResolver, BoardSearchIndex boardSearchIndex) {
         this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
         this.userRepository = userRepository;
+        this.boardDetailCache = boardDetailCache;
+        this.currentUserResolver = currentUserResolver;
+        this.boardSearchIndex = boardSearchIndex;
     }
     
     /**
      * 전체 목록 '페이징' 조회 (Read All with Pagination)
      * @param pageable 요청된 페이지 정보 (페이지 번호, 페이지 크기, 정렬 순서)
-     * @return 해당 페이지의 게시글 DTO 리스트와 페이지 정보를 담은 Page 객체
+     * @return 해당 페이지의 게시글 요약 DTO 리스트와 페이지 정보를 담은 Page 객체
      */
-    public Page<BoardResponseDTO> getAllBoards(Pageable pageable) { 
-    	// Pageable 객체를 사용하여 DB에서 Board Entity 페이지 조회
-    	Page<Board> boardPage = boardRepository.findAll(pageable);
-    	
-    	// 조회된 Board Entity 페이지를 BoardResponseDTO 페이지로 변환
-    	// .map(엔티티 -> DTO 변환 함수) 사용
-    	return boardPage.map(BoardResponseDTO::new);
-    	
+    public Page<BoardSummaryDTO> getAllBoards(Pageable pageable) { 
+    	// Pageable 객체를 사용하여 DB에서 게시글 요약 DTO 페이지를 바로 조회
+    	// (본문은 미리보기만, 작성자 이름까지 조인 쿼리 1번 + COUNT 쿼리 1번)
+    	return boardRepository.findAllSummaries(pageable);
+
+    }
+
+    /**
+     * 전체 목록 '커서' 조회 (Read All with Keyset Pagination)
+     * OFFSET/COUNT 없이 "id < 마지막으로 본 id" 조건으로 다음 페이지를 가져옴
+     * @param after 이전 응답의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 게시글 요약 DTO 리스트와 다음 커서
+     */
+    public PageResponseDTO<BoardSummaryDTO> getBoardsAfter(String after, int size) {
+    	long lastId = (after == null || after.isBlank()) ? Long.MAX_VALUE : CursorCodec.decode(after, 1)[0];
+
+    	Slice<BoardSummaryDTO> slice = boardRepository.findSummariesByIdLessThan(lastId,
+    			PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id")));
+
+    	List<BoardSummaryDTO> content = slice.getContent();
+
+    	// 다음 페이지가 있으면 이번 페이지의 마지막 id를 커서로 만들어 내려줌
+    	String nextCursor = slice.hasNext() ? CursorCodec.encode(content.get(content.size() - 1).getId()) : null;
+    	return PageResponseDTO.cursor(content, nextCursor);
+    }
+
+    /**
+     * 제목/본문 검색 (Search)
+     * LIKE '%q%' 로 테이블 전체를 읽지 않고, 메모리 검색 색인에서 현재 페이지의 ID만 고른 뒤
+     * 그 ID들의 요약만 DB에서 조회 (IN 쿼리 1번)
+     * @param query 검색어
+     * @param pageable 페이지 번호, 페이지 크기 (정렬은 검색 점수 순으로 고정)
+     */
+    public Page<BoardSummaryDTO> searchBoards(String query, Pageable pageable) {
+    	BoardSearchIndex.Result result = boardSearchIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+    	if (result.ids().isEmpty()) {
+    		return new PageImpl<>(List.of(), pageable, result.total());
+    	}
+
+    	Map<Long, BoardSummaryDTO> summaries = boardRepository.findSummariesByIdIn(result.ids()).stream()
+    			.collect(Collectors.toMap(BoardSummaryDTO::getId, Function.identity()));
+
+    	// IN 쿼리는 순서를 보장하지 않으므로 검색 점수 순서대로 다시 나열
+    	List<BoardSummaryDTO> content = result.ids().stream()
+    			.map(summaries::get)
+    			.filter(Objects::nonNull) // 색인 반영 직전에 삭제된 게시글은 제외
+    			.toList();
+    	return new PageImpl<>(content, pageable, result.total());
     }
 
     // ID로 1개 조회 (Read One)
     public BoardResponseDTO getBoardById(Long id) {
-    	Board board = boardRepository.findById(id).orElse(null); // DB에서 Board 조회
-        return (board != null) ? new BoardResponseDTO(board) : null; // Board가 있으면 DTO로 변환, 없으면 null 반환 
+    	// 캐시에 없을 때만 게시글 + 작성자 이름을 조인 쿼리 1번으로 조회, 없으면 null 반환
+    	return boardDetailCache.get(id, key -> boardRepository.findDtoById(key).orElse(null));
+    }
+
+    /**
+     * 게시글의 현재 ETag 조회 (조건부 GET 용)
+     * 캐시에 있으면 DB를 거치지 않고, 없으면 버전/댓글 수 컬럼만 읽는 가벼운 쿼리 1번
+     * @return 게시글 ETag, 게시글이 없으면 null
+     */
+    public String getBoardETag(Long id) {
+    	BoardResponseDTO cached = boardDetailCache.getIfPresent(id);
+    	if (cached != null) {
+    		return etagOf(cached);
+    	}
+    	return boardRepository.findVersionTagById(id).map(ETags::of).orElse(null);
+    }
+    
+    // 게시글 상세의 ETag : "버전-댓글수" (BoardRepository.findVersionTagById 와 같은 형식)
+    public static String etagOf(BoardResponseDTO board) {
+    	return ETags.of(board.getVersion(), board.getCommentCount());
     }
 
     // 새 게시글 생성 (Create)
+    @Transactional
     public BoardResponseDTO createBoard(Board newBoard) {
     	// JpaRepository의 save() 메서드는
         //   - 객체의 ID가 null이거나 0이면 (DB에 없으면) -> INSERT 쿼리 실행
         //   - 객체의 ID가 존재하면 (DB에 있으면) -> UPDATE 쿼리 실행
         // 지금은 id가 0L(또는 null)인 객체가 오므로 INSERT가 실행
-    	// 현재 로그인한 사용자의 Authentication 객체 가져옴
-    	Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    	// 현재 로그인한 사용자 (ID는 JWT 클레임에서 바로 가져오므로 users 조회 없음)
+    	AuthUser currentUser = currentUserResolver.get();
     	
-    	// Authentication 객체에서 사용자 이름(username) 추출
-    	String username = authentication.getName();
+    	// 새 게시글(newBoard)의 작성자(author) 필드에 User '참조 프록시'를 설정
+    	// (getReferenceById는 SELECT 없이 ID만 가진 프록시를 만듦 -> INSERT 시 user_id FK 값으로만 사용)
+    	newBoard.setAuthor(userRepository.getReferenceById(currentUser.id()));
     	
-    	// 사용자 이름으로 User 엔티티를 DB에서 조회
-    	User currentUser = userRepository.findByUsername(username)
-    			.orElseThrow(() -> new RuntimeException("현재 로그인된 사용자를 찾을 수 없습니다."));
-    			
-    	// 새 게시글(newBoard)의 작성자(author) 필드에 조회한 User 엔티티를 설정
-    	newBoard.setAuthor(currentUser);
+    	// 요청 JSON에 version이 들어 있으면 JPA가 '기존 엔티티'로 판단하므로 비워둠
+    	newBoard.setVersion(null);
+    	newBoard.setCommentCount(0); // 댓글 수는 클라이언트가 정할 수 없음
     	
-        Board savedBoard = boardRepository.save(newBoard);
+    	Board savedBoard;
+    	try {
+    		savedBoard = boardRepository.saveAndFlush(newBoard); // INSERT 1번
+    	} catch (DataIntegrityViolationException e) {
+    		// 사용자를 미리 조회하지 않으므로, 없는 사용자는 user_id FK 제약 위반으로 알게 됨
+    		throw new ResponseStatusException(HttpStatus.NOT_FOUND, "현재 로그인된 사용자를 찾을 수 없습니다.", e);
+    	}
     	
-        return new BoardResponseDTO(savedBoard);
+    	boardSearchIndex.index(savedBoard.getId(), savedBoard.getTitle(), savedBoard.getContent()); // 커밋 후 검색 색인에 추가
+    	
+    	// 작성자 이름은 토큰의 username 사용 (프록시를 초기화하면 users SELECT가 실행되므로)
+        return toResponse(savedBoard, currentUser.username());
     }
     
     // 게시글 수정 (Update)
+    // 하나의 트랜잭션 안에서 조회한 엔티티의 값만 바꾸면, 커밋 전에 Hibernate가 변경을 감지해서(dirty checking)
+    // "UPDATE ... SET ..., version = version + 1 WHERE id = ? AND version = ?" 를 실행
+    // -> 그 사이 다른 사람이 먼저 수정했다면 0행이 바뀌므로 덮어쓰지 않고 409 Conflict
+    @Transactional
     public BoardResponseDTO updateBoard(Long id, Board updatedBoard) {
     	// 1. DB에서 ID로 기존 데이터를 먼저 조회 (영속성 컨텍스트에 올림)
         Board existingBoard = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("ID " + id + " not found"));
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "ID " + id + " not found"));
         
         checkAuthorization(existingBoard); // 현재 사용자가 작성자인지 확인
 
-        // 2. 기존 객체의 필드 값만 React에서 받은 새 값으로 변경
+        // 2. 클라이언트가 수정 화면을 열 때 받은 버전과 현재 버전 비교
+        //    (화면을 연 뒤에 다른 수정이 커밋되었다면, 그 수정을 모른 채 덮어쓰지 않도록 거절)
+        if (updatedBoard.getVersion() != null && !updatedBoard.getVersion().equals(existingBoard.getVersion())) {
+        	throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 곳에서 먼저 수정된 게시글입니다. 새로고침 후 다시 수정해 주세요.");
+        }
+
+        // 3. 기존 객체의 필드 값만 React에서 받은 새 값으로 변경 (save 호출 없음, dirty checking)
         existingBoard.setTitle(updatedBoard.getTitle());
         existingBoard.setContent(updatedBoard.getContent());
         
-        // 3. 변경된 existingBoard를 다시 저장(save)
-        //	  (JPA가 id가 존재하는 것을 보고 UPDATE 쿼리를 실행)
-        Board savedBoard = boardRepository.save(existingBoard); // 수정된 Entity 저장
-        return new BoardResponseDTO(savedBoard); // 저장된 Entity를 DTO로 변환하여 반환
+        // 4. 여기서 UPDATE를 실행해서 버전 충돌을 바로 확인 (응답 DTO에 올라간 버전을 담기 위해서도 필요)
+        try {
+        	boardRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+        	// 조회와 UPDATE 사이에 다른 트랜잭션이 먼저 커밋함 (WHERE version = ? 조건에 걸린 행이 0개)
+        	throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 곳에서 먼저 수정된 게시글입니다. 새로고침 후 다시 수정해 주세요.", e);
+        }
+        
+        boardDetailCache.evict(id); // 캐시에 남아 있는 수정 전 내용 제거
+        boardSearchIndex.index(id, existingBoard.getTitle(), existingBoard.getContent()); // 검색 색인도 수정된 내용으로 교체
+        // 수정된 Entity를 DTO로 변환하여 반환 (권한 검사를 통과했으므로 작성자 = 현재 사용자)
+        return toResponse(existingBoard, currentUserResolver.get().username());
     }
 
     // 게시글 삭제 (Delete)
+    // 게시글을 조회하지 않고, "작성자가 현재 사용자인 경우에만" 지우는 조건부 DELETE 문으로 처리
+    // (댓글 DELETE 1번 + 게시글 DELETE 1번, 실패했을 때만 존재 여부 확인 1번)
+    @Transactional
     public void deleteBoard(Long id) {
-    	// 1. 삭제 전 게시글 조회 (작성자 확인 위해)
-        Board boardToDelete = boardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("ID " + id + " not found"));
+    	// 1. 현재 로그인한 사용자 (JWT 클레임)
+    	Long currentUserId = currentUserResolver.get().id();
+
+    	// 2. 댓글 일괄 삭제 -> 게시글 삭제 (comments.board_id 외래키 때문에 댓글 먼저)
+    	//    두 문장 모두 작성자 조건이 있으므로 권한이 없으면 아무것도 지워지지 않음
+    	int deleted;
+    	try {
+    		commentRepository.deleteByBoardIdAndBoardAuthorId(id, currentUserId);
+    		deleted = boardRepository.deleteByIdAndAuthorId(id, currentUserId);
+    	} catch (DataIntegrityViolationException e) {
+    		// 두 DELETE 사이에 새 댓글이 달리면 외래키 제약 위반 (트랜잭션 전체가 롤백됨)
+    		throw new ResponseStatusException(HttpStatus.CONFLICT, "삭제 중 새 댓글이 등록되었습니다. 다시 시도해 주세요.", e);
+    	}
 
-        // 2. [핵심] 권한 검사 로직 추가
-        checkAuthorization(boardToDelete); // 현재 사용자가 작성자인지 확인
+    	// 3. 지워진 행이 없으면 없는 게시글(404)인지 작성자가 아닌지(403) 구분
+    	if (deleted == 0) {
+    		if (boardRepository.existsById(id)) {
+    			throw new AccessDeniedException("이 게시글을 수정/삭제할 권한이 없습니다.");
+    		}
+    		throw new ResponseStatusException(HttpStatus.NOT_FOUND, "ID " + id + " not found");
+    	}
 
-        // 3. (권한 통과 시) 삭제 실행
-        boardRepository.deleteById(id);
+        boardDetailCache.evict(id); // 삭제된 게시글을 캐시에서도 제거
+        boardSearchIndex.remove(id); // 검색 색인에서도 제거
     }
     
     // --- [권한 검사 헬퍼 메서드 추가] ---
@@ -108,21 +231,22 @@ public class BoardService {
      * @param board 검사할 게시글 Entity
      */
     private void checkAuthorization(Board board) {
-        // 1. 현재 로그인한 사용자의 Authentication 객체 가져오기
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-             throw new AccessDeniedException("로그인이 필요합니다."); // 비로그인 접근 차단
-        }
-
-        // 2. 현재 로그인한 사용자 이름 가져오기
-        String currentUsername = authentication.getName();
+        // 1. 현재 로그인한 사용자 가져오기 (비로그인이면 AccessDeniedException)
+        AuthUser currentUser = currentUserResolver.get();
 
-        // 3. 게시글 작성자 이름 가져오기 (author 필드가 null일 수 있으므로 주의)
-        String authorUsername = (board.getAuthor() != null) ? board.getAuthor().getUsername() : null;
+        // 2. 게시글 작성자 ID 가져오기 (author 필드가 null일 수 있으므로 주의)
+        //    LAZY 프록시의 getId()는 프록시를 초기화하지 않으므로 users SELECT가 없음
+        Long authorId = (board.getAuthor() != null) ? board.getAuthor().getId() : null;
 
-        // 4. 두 이름이 다르면 예외 발생 (403 Forbidden 에러로 응답됨)
-        if (!currentUsername.equals(authorUsername)) {
+        // 3. 두 ID가 다르면 예외 발생 (403 Forbidden 에러로 응답됨)
+        if (!currentUser.id().equals(authorId)) {
             throw new AccessDeniedException("이 게시글을 수정/삭제할 권한이 없습니다.");
         }
     }
+    
+    // 저장된 Board 엔티티 -> 응답 DTO (작성자 이름은 인자로 받아서 LAZY 프록시를 건드리지 않음)
+    private static BoardResponseDTO toResponse(Board board, String authorUsername) {
+    	return new BoardResponseDTO(board.getId(), board.getTitle(), board.getContent(), authorUsername,
+    			board.getVersion(), board.getCommentCount());
+    }
 }
\ No newline at end of file
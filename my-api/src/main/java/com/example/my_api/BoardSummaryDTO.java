@@ -0,0 +1,70 @@
+package com.example.my_api;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 '목록' 응답용 DTO
+ * 목록 화면에는 본문 전체가 필요 없으므로, 본문(content) 대신
+ * DB에서 잘라낸 앞부분(미리보기)만 담음
+ * (본문 전체는 GET /api/board/{id} 의 BoardResponseDTO로만 제공)
+ * 목록 응답에서 가장 많이 직렬화되는 타입이라 JSON도 직접 씀 (PageResponseDTO 참고)
+ */
+@Getter
+@NoArgsConstructor
+public class BoardSummaryDTO implements JsonSerializable {
+
+	// 미리보기 최대 길이 (BoardRepository의 JPQL substring 에서도 사용)
+	public static final int PREVIEW_LENGTH = 100;
+
+	private static final SerializedString ID = new SerializedString("id");
+	private static final SerializedString TITLE = new SerializedString("title");
+	private static final SerializedString CONTENT_PREVIEW = new SerializedString("contentPreview");
+	private static final SerializedString AUTHOR_USERNAME = new SerializedString("authorUsername");
+	private static final SerializedString COMMENT_COUNT = new SerializedString("commentCount");
+
+	private long id;
+	private String title;
+	private String contentPreview;
+	private String authorUsername;
+	private long commentCount; // 댓글 수 (Board.commentCount 컬럼을 그대로 읽음, COUNT 쿼리 없음)
+
+	// JPQL 생성자 표현식(select new ...)을 위한 생성자
+	public BoardSummaryDTO(long id, String title, String contentPreview, String authorUsername, long commentCount) {
+		this.id = id;
+		this.title = title;
+		this.contentPreview = contentPreview;
+		this.authorUsername = authorUsername;
+		this.commentCount = commentCount;
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+		gen.writeFieldName(ID);
+		gen.writeNumber(id);
+		gen.writeFieldName(TITLE);
+		gen.writeString(title);
+		gen.writeFieldName(CONTENT_PREVIEW);
+		gen.writeString(contentPreview);
+		gen.writeFieldName(AUTHOR_USERNAME);
+		gen.writeString(authorUsername);
+		gen.writeFieldName(COMMENT_COUNT);
+		gen.writeNumber(commentCount);
+		gen.writeEndObject();
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+			throws IOException {
+		serialize(gen, serializers);
+	}
+}
@@ -3,15 +3,21 @@ package com.example.my_api;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,26 +26,36 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "comments") // DB 테이블 이름
+@Table(name = "comments", // DB 테이블 이름
+		// 댓글 목록 커서 조회(WHERE board_id = ? AND (created_at, id) > (?, ?) ORDER BY created_at, id)를
+		// 인덱스 범위 스캔만으로 처리하기 위한 복합 인덱스
+		indexes = @Index(name = "idx_comments_board_created_id", columnList = "board_id, created_at, id"))
+@EntityListeners(AuditingEntityListener.class) // @CreatedDate 값을 채워주는 JPA Auditing 리스너
 public class Comment {
 	
 	@Id // 기본키
-	@GeneratedValue(strategy = GenerationType.IDENTITY) // PK 값 자동 생성
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq") // PK 값 자동 생성
+	@SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50) // 50개씩 미리 할당 (INSERT 배치 가능)
 	private Long id;
 	
 	@Column(nullable = false)
 	private String content;	// 댓글 내용
 	
-	@ManyToOne // [연관 관계 1 : 댓글(N) -> 게시글(1)]
+	@ManyToOne(fetch = FetchType.LAZY) // [연관 관계 1 : 댓글(N) -> 게시글(1)]
+									   // (기본값 EAGER면 댓글마다 게시글 본문까지 함께 조회되므로 LAZY로 지정)
 	@JoinColumn(name = "board_id", nullable = false) // 외래키 
 	private Board board; 	// 댓글이 달린 게시글
 	
-	@ManyToOne // [연관 관계 2 : 댓글(N) -> 작성자(1)]
+	@ManyToOne(fetch = FetchType.LAZY) // [연관 관계 2 : 댓글(N) -> 작성자(1)]
+									   // (비밀번호 해시까지 담긴 User 전체를 매번 읽지 않도록 LAZY로 지정)
 	@JoinColumn(name = "user_id", nullable = false)
 	private User author;	// 댓글을 쓴 작성자
 	
 	@CreatedDate
-    @Column(updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+	
+	@Version // 수정될 때마다 증가하는 버전 컬럼 (댓글 목록 ETag 계산에 사용)
+	private Long version;
 
 }
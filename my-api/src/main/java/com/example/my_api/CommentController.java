@@ -2,6 +2,9 @@ package com.example.my_api;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -10,7 +13,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * 댓글(Comment) 관련 API를 제공하는 컨트롤러
@@ -20,6 +25,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequestMapping("/api") // 공통 경로 /api
 public class CommentController {
 	
+	// 댓글 목록 기본/최대 페이지 크기
+	private static final int DEFAULT_PAGE_SIZE = 100;
+	private static final int MAX_PAGE_SIZE = 100;
+	
 	private final CommentService commentService;
 	
 	public CommentController(CommentService commentService) {
@@ -27,14 +36,64 @@ public class CommentController {
 	}
 	
     /**
-     * (Read) 특정 게시글의 모든 댓글 조회
-     * API: GET /api/board/{boardId}/comments
+     * (Read) 특정 게시글의 댓글 조회 (기존 방식 : 배열 응답)
+     * API: GET /api/board/{boardId}/comments?size=100
+     * 댓글 전체를 한 번에 읽지 않도록, 작성 순서대로 앞에서부터 size개(기본 100개)만 반환
+     * If-None-Match 가 현재 목록 ETag와 같으면 댓글을 읽지 않고 304 Not Modified
      */
 	@CrossOrigin(origins = "http://localhost:3000")
 	@GetMapping("/board/{boardId}/comments")
-	public ResponseEntity<List<CommentResponseDTO>> getComments(@PathVariable("boardId") Long boardId) {
-		List<CommentResponseDTO> comments = commentService.getCommentsForBoard(boardId);
-		return ResponseEntity.ok(comments);
+	public ResponseEntity<List<CommentResponseDTO>> getComments(
+			@PathVariable("boardId") Long boardId,
+			@RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		// 목록을 읽기 '전에' 버전을 계산 -> 그 사이 댓글이 바뀌어도 ETag가 본문보다 옛날 값이 되어
+		// 다음 요청에서 다시 내려받게 될 뿐, 바뀐 목록을 놓치는 일은 없음
+		String etag = ETags.of(commentService.getCommentsVersion(boardId));
+		if (ETags.matches(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(etag)
+					.cacheControl(CacheControl.noCache())
+					.build();
+		}
+		
+		List<CommentResponseDTO> comments = commentService.getCommentsForBoard(boardId, null, clampSize(size)).getItems();
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.cacheControl(CacheControl.noCache())
+				.body(comments);
+	}
+	
+    /**
+     * (Read) 특정 게시글의 댓글 조회 (커서 방식)
+     * API: GET /api/board/{boardId}/comments?after=&size=50 (첫 페이지)
+     *      GET /api/board/{boardId}/comments?after={응답의 nextCursor}&size=50 (다음 페이지)
+     * 'after' 파라미터가 있을 때만 이 메서드로 매핑됨
+     */
+	@CrossOrigin(origins = "http://localhost:3000")
+	@GetMapping(value = "/board/{boardId}/comments", params = "after")
+	public ResponseEntity<PageResponseDTO<CommentResponseDTO>> getCommentsByCursor(
+			@PathVariable("boardId") Long boardId,
+			@RequestParam("after") String after,
+			@RequestParam(value = "size", defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		String etag = ETags.of(commentService.getCommentsVersion(boardId));
+		if (ETags.matches(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(etag)
+					.cacheControl(CacheControl.noCache())
+					.build();
+		}
+		
+		return ResponseEntity.ok()
+				.eTag(etag)
+				.cacheControl(CacheControl.noCache())
+				.body(commentService.getCommentsForBoard(boardId, after, clampSize(size)));
+	}
+	
+	// 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 제한
+	private static int clampSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 	}
 	
 	 /**
@@ -0,0 +1,41 @@
+package com.example.my_api;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 댓글 수(Board.commentCount) 보정 배치 작업
+ * 댓글 작성/삭제 시 같은 트랜잭션에서 증감하므로 평소에는 어긋나지 않지만,
+ * DB를 직접 수정하는 등의 예외 상황을 대비해 주기적으로 실제 댓글 수와 맞춰 줌
+ * (요청 처리 경로에서는 COUNT 쿼리를 실행하지 않음)
+ */
+@Component
+@Slf4j
+public class CommentCountReconciler {
+
+	private final BoardRepository boardRepository;
+	private final BoardDetailCache boardDetailCache;
+
+	public CommentCountReconciler(BoardRepository boardRepository, BoardDetailCache boardDetailCache) {
+		this.boardRepository = boardRepository;
+		this.boardDetailCache = boardDetailCache;
+	}
+
+	/**
+	 * 실제 댓글 수와 다른 게시글의 commentCount를 한 번의 UPDATE 문으로 다시 계산
+	 * @return 보정된 게시글 수
+	 */
+	@Scheduled(cron = "${board.comment-count.reconcile-cron}")
+	@Transactional
+	public int reconcile() {
+		int fixed = boardRepository.reconcileCommentCounts();
+		if (fixed > 0) {
+			log.warn("댓글 수가 어긋난 게시글 {}건을 보정했습니다.", fixed);
+			boardDetailCache.evictAll(); // 여러 게시글이 바뀌었으므로 상세 캐시 전체 제거
+		}
+		return fixed;
+	}
+}
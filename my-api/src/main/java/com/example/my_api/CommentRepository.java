@@ -1,10 +1,50 @@
 package com.example.my_api;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // 특정 게시글(Board)에 달린 모든 댓글을 찾는 쿼리 메서드
     List<Comment> findByBoardId(Long boardId);
+
+    // [커서 페이지네이션 - 첫 페이지] 작성 순서(createdAt, id)대로 size개
+    // (board_id, created_at, id) 복합 인덱스를 순서대로 읽으므로 정렬 비용 없음
+    // 댓글 엔티티 대신 DTO 프로젝션으로 id, 내용, 작성자 이름, 작성 시간만 조회
+    // (게시글 본문이나 작성자의 비밀번호 해시 같은 불필요한 컬럼을 읽지 않음, 쿼리 1번)
+    @Query("select new com.example.my_api.CommentResponseDTO(c.id, c.content, a.username, c.createdAt) "
+    		+ "from Comment c join c.author a where c.board.id = :boardId "
+    		+ "order by c.createdAt asc, c.id asc")
+    List<CommentResponseDTO> findFirstPage(@Param("boardId") Long boardId, Pageable pageable);
+
+    // [커서 페이지네이션 - 다음 페이지] 마지막으로 본 (createdAt, id) 바로 다음부터 size개
+    // OFFSET 없이 인덱스에서 시작 위치를 바로 찾으므로, 댓글이 수만 개여도 페이지당 비용이 일정
+    @Query("select new com.example.my_api.CommentResponseDTO(c.id, c.content, a.username, c.createdAt) "
+    		+ "from Comment c join c.author a where c.board.id = :boardId "
+    		+ "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) "
+    		+ "order by c.createdAt asc, c.id asc")
+    List<CommentResponseDTO> findPageAfter(@Param("boardId") Long boardId,
+    		@Param("createdAt") LocalDateTime createdAt,
+    		@Param("id") Long id,
+    		Pageable pageable);
+
+    // [조건부 GET] 댓글 목록의 '버전' 문자열 (댓글 수 - 최대 id - 버전 합계)
+    // 댓글이 추가/삭제/수정되면 셋 중 하나가 반드시 바뀌므로, 목록을 읽지 않고 ETag를 만들 수 있음
+    @Query("select concat(cast(count(c) as String), '-', cast(coalesce(max(c.id), 0) as String), '-', "
+    		+ "cast(coalesce(sum(c.version), 0) as String)) from Comment c where c.board.id = :boardId")
+    String findListVersionByBoardId(@Param("boardId") Long boardId);
+
+    // [게시글 삭제 - 댓글 일괄 삭제] 댓글을 읽지 않고 DELETE 문 1번으로 삭제
+    // 게시글 작성자가 authorId일 때만 지워지므로, 권한 없는 요청은 아무것도 지우지 못함
+    // (comments.board_id 외래키 때문에 게시글보다 먼저 실행해야 함)
+    @Modifying
+    @Query("delete from Comment c where c.board.id in "
+    		+ "(select b.id from Board b where b.id = :boardId and b.author.id = :authorId)")
+    int deleteByBoardIdAndBoardAuthorId(@Param("boardId") Long boardId, @Param("authorId") Long authorId);
 }
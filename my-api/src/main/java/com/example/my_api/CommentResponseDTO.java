@@ -16,6 +16,15 @@ public class CommentResponseDTO {
     private String authorUsername; // 작성자 ID 대신 이름만 전송
     private LocalDateTime createdAt;
 
+    // JPQL 생성자 표현식(select new ...)을 위한 생성자
+    // 댓글 목록에 필요한 4개 컬럼만 조인 쿼리 1번으로 조회할 때 사용
+    public CommentResponseDTO(Long id, String content, String authorUsername, LocalDateTime createdAt) {
+        this.id = id;
+        this.content = content;
+        this.authorUsername = authorUsername;
+        this.createdAt = createdAt;
+    }
+
     // Entity -> DTO 변환을 위한 생성자
     public CommentResponseDTO(Comment comment) {
         this.id = comment.getId();
@@ -1,12 +1,18 @@
 package com.example.my_api;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class CommentService {
@@ -14,24 +20,60 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository; // 댓글을 달 게시판을 찾기 위함
     private final UserRepository userRepository;   // 댓글 작성자를 찾기 위함	
+    private final BoardDetailCache boardDetailCache; // 댓글 수가 바뀐 게시글 상세 캐시를 비우기 위함
+    private final CurrentUserResolver currentUserResolver; // 현재 로그인한 사용자 (JWT 클레임)
 
     
-    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository, UserRepository userRepository) {
+    public CommentService(CommentRepository commentRepository, BoardRepository boardRepository, UserRepository userRepository,
+    		BoardDetailCache boardDetailCache, CurrentUserResolver currentUserResolver) {
 		this.commentRepository = commentRepository;
 		this.boardRepository = boardRepository;
 		this.userRepository = userRepository;
+		this.boardDetailCache = boardDetailCache;
+		this.currentUserResolver = currentUserResolver;
     }
     
     /**
-     * 특정 게시글의 모든 댓글 조회 (Read)
+     * 특정 게시글의 댓글 조회 (Read, 커서 페이지네이션)
+     * 댓글을 작성 순서(createdAt, id)대로 size개씩 가져옴
+     * @param boardId 게시글 ID
+     * @param after 이전 응답의 nextCursor (null 이거나 비어 있으면 첫 페이지)
+     * @param size 페이지 크기
+     * @return 해당 페이지의 댓글 DTO 리스트와 다음 커서
      */
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션(성능 향상)
-    public List<CommentResponseDTO> getCommentsForBoard(Long boardId) {
-    	// boardId로 모든 댓글 찾기
-    	List<Comment> comments = commentRepository.findByBoardId(boardId);
+    public PageResponseDTO<CommentResponseDTO> getCommentsForBoard(Long boardId, String after, int size) {
+    	// 다음 페이지 존재 여부를 알기 위해 1개 더 조회 (COUNT 쿼리 없음)
+    	Pageable limit = PageRequest.of(0, size + 1);
     	
-    	// Entity List -> DTO List로 변환
-    	return comments.stream().map(CommentResponseDTO::new).collect(Collectors.toList());
+    	List<CommentResponseDTO> comments;
+    	if (after == null || after.isBlank()) {
+    		comments = commentRepository.findFirstPage(boardId, limit);
+    	} else {
+    		long[] cursor = CursorCodec.decode(after, 2); // (createdAt 마이크로초, id)
+    		comments = commentRepository.findPageAfter(boardId, fromEpochMicros(cursor[0]), cursor[1], limit);
+    	}
+    	
+    	boolean hasNext = comments.size() > size;
+    	
+    	// 확인용으로 더 가져온 1개는 제외
+    	List<CommentResponseDTO> content = hasNext ? comments.subList(0, size) : comments;
+    	
+    	String nextCursor = null;
+    	if (hasNext) {
+    		CommentResponseDTO last = content.get(content.size() - 1);
+    		nextCursor = CursorCodec.encode(toEpochMicros(last.getCreatedAt()), last.getId());
+    	}
+    	return PageResponseDTO.cursor(content, nextCursor);
+    }
+    
+    /**
+     * 특정 게시글 댓글 목록의 현재 버전 조회 (조건부 GET 용)
+     * 댓글 엔티티를 읽지 않고 집계 쿼리 1번으로 계산
+     */
+    @Transactional(readOnly = true)
+    public String getCommentsVersion(Long boardId) {
+    	return commentRepository.findListVersionByBoardId(boardId);
     }
     
     /**
@@ -39,26 +81,48 @@ public class CommentService {
      */
     @Transactional
     public CommentResponseDTO createComment(Long boardId, CommentRequestDTO requestDTO) {
-    	// 현재 로그인한 사용자 정보 조회
-    	String username = SecurityContextHolder.getContext().getAuthentication().getName();
-    	User author = userRepository.findByUsername(username)
-    			.orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")); 
+    	// 현재 로그인한 사용자 (ID는 JWT 클레임에서 바로 가져오므로 users 조회 없음)
+    	AuthUser currentUser = currentUserResolver.get();
     	
-    	// 댓글을 달 게시글 조회
-    	Board board = boardRepository.findById(boardId)
-    			.orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+    	// 게시글의 댓글 수 +1 (상대 UPDATE)
+    	// 게시글을 SELECT 하지 않고, 변경된 행 수가 0이면 '없는 게시글'로 판단
+    	if (boardRepository.incrementCommentCount(boardId) == 0) {
+    		throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+    	}
     	
     	// 새 Comment 객체 생성 및 정보 설정
+    	// 게시글/작성자는 SELECT 없이 ID만 가진 '참조 프록시'로 연결 (INSERT 시 FK 값으로만 사용)
     	Comment newComment = new Comment();
     	newComment.setContent(requestDTO.getContent());
-    	newComment.setBoard(board);		// 게시글 연결
-    	newComment.setAuthor(author);	// 작성자 연결
+    	newComment.setBoard(boardRepository.getReferenceById(boardId));			// 게시글 연결
+    	newComment.setAuthor(userRepository.getReferenceById(currentUser.id()));	// 작성자 연결
     	
-    	// DB에 저장
-    	Comment savedComment = commentRepository.save(newComment);
+    	// DB에 저장 (INSERT 1번)
+    	Comment savedComment;
+    	try {
+    		savedComment = commentRepository.saveAndFlush(newComment);
+    	} catch (DataIntegrityViolationException e) {
+    		// 사용자를 미리 조회하지 않으므로, 없는 사용자는 user_id FK 제약 위반으로 알게 됨
+    		throw new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.", e);
+    	}
     	
-    	// DTO로 변환하여 반환
-    	return new CommentResponseDTO(savedComment);
+    	boardDetailCache.evict(boardId); // 커밋 후 게시글 상세 캐시 제거 (댓글 수가 바뀌었으므로)
+    	
+    	// DTO로 변환하여 반환 (작성자 이름은 토큰의 username 사용 -> 프록시 초기화 없음)
+    	return new CommentResponseDTO(savedComment.getId(), savedComment.getContent(),
+    			currentUser.username(), savedComment.getCreatedAt());
+    }
+    
+    // --- [커서 변환 헬퍼 메서드] ---
+    // DB의 TIMESTAMP 정밀도(마이크로초)에 맞춰 createdAt을 long 값으로 변환
+    private static long toEpochMicros(LocalDateTime time) {
+    	Instant instant = time.toInstant(ZoneOffset.UTC);
+    	return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+    
+    private static LocalDateTime fromEpochMicros(long micros) {
+    	return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+    			(int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
     }
     
     /**
@@ -71,14 +135,20 @@ public class CommentService {
     			.orElseThrow(() -> new RuntimeException("댓글을 찾을 수 업습니다."));
     	
     	// [권한 검사] 현재 로그인한 사용자와 댓글 작성자가 동일한지 확인
-        String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
-        String authorUsername = comment.getAuthor().getUsername();
+        // (작성자 ID로 비교 -> LAZY 프록시를 초기화하지 않으므로 users SELECT 없음)
+        Long currentUserId = currentUserResolver.get().id();
+        Long authorId = comment.getAuthor().getId();
         
-        if(!currentUsername.equals(authorUsername)) {
+        if(!currentUserId.equals(authorId)) {
         	throw new AccessDeniedException("이 댓글을 삭제할 권한이 없습니다.");
         }
         
         // 삭제
         commentRepository.delete(comment);
+        
+        // 게시글의 댓글 수 -1 (getBoard().getId()는 LAZY 프록시를 초기화하지 않음)
+        Long boardId = comment.getBoard().getId();
+        boardRepository.decrementCommentCount(boardId);
+        boardDetailCache.evict(boardId);
     }
 }
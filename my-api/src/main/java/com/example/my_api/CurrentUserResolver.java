@@ -0,0 +1,44 @@
+package com.example.my_api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * SecurityContext에서 현재 로그인한 사용자(AuthUser)를 꺼내주는 헬퍼
+ * 사용자 ID는 JWT의 uid 클레임에서 바로 가져오므로 DB 조회가 없음
+ * (uid 클레임이 없는 예전 토큰일 때만 username으로 조회, 그마저도 UserLookupCache에 있으면 DB 조회 없음)
+ */
+@Component
+public class CurrentUserResolver {
+
+	private final UserLookupCache userLookupCache;
+
+	public CurrentUserResolver(UserLookupCache userLookupCache) {
+		this.userLookupCache = userLookupCache;
+	}
+
+	/**
+	 * 현재 로그인한 사용자 반환
+	 * 로그인하지 않았으면 AccessDeniedException (403)
+	 */
+	public AuthUser get() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()
+				|| !(authentication.getPrincipal() instanceof AuthUser authUser)) {
+			throw new AccessDeniedException("로그인이 필요합니다."); // 비로그인 접근 차단
+		}
+
+		if (authUser.id() != null) {
+			return authUser;
+		}
+
+		// uid 클레임이 없는 예전 토큰 -> username으로 사용자 ID 조회
+		UserLookupCache.CachedUser user = userLookupCache.findByUsername(authUser.username())
+				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "현재 로그인된 사용자를 찾을 수 없습니다."));
+		return new AuthUser(user.id(), user.username());
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.my_api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 커서(keyset) 페이지네이션에서 사용하는 '다음 페이지 커서' 인코더/디코더
+ * 내부 값(예 : 마지막으로 본 게시글 ID)을 URL-safe Base64 문자열로 감싸서
+ * 클라이언트가 커서의 구조에 의존하지 않도록(opaque) 함
+ */
+public final class CursorCodec {
+
+	private static final String SEPARATOR = ":";
+
+	private CursorCodec() {
+	}
+
+	/**
+	 * 여러 개의 long 값을 하나의 커서 문자열로 인코딩
+	 * @param parts 커서에 담을 값들 (예 : id 또는 createdAt, id)
+	 * @return URL에 그대로 넣을 수 있는 커서 문자열
+	 */
+	public static String encode(long... parts) {
+		StringBuilder raw = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0) {
+				raw.append(SEPARATOR);
+			}
+			raw.append(parts[i]);
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(raw.toString().getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * 커서 문자열을 다시 long 값 배열로 디코딩
+	 * 형식이 잘못된 커서는 400 Bad Request로 응답
+	 * @param cursor 클라이언트가 보낸 커서
+	 * @param expectedParts 커서에 들어 있어야 하는 값의 개수
+	 */
+	public static long[] decode(String cursor, int expectedParts) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+			String[] tokens = raw.split(SEPARATOR);
+			if (tokens.length != expectedParts) {
+				throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+			}
+			long[] parts = new long[expectedParts];
+			for (int i = 0; i < expectedParts; i++) {
+				parts[i] = Long.parseLong(tokens[i]);
+			}
+			return parts;
+		} catch (IllegalArgumentException e) { // NumberFormatException 포함
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.", e);
+		}
+	}
+}
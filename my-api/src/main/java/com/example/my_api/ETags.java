@@ -0,0 +1,52 @@
+package com.example.my_api;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 처리를 위한 헬퍼
+ * 리소스의 버전 값으로 강한(strong) ETag를 만들고,
+ * 클라이언트가 보낸 If-None-Match 헤더와 비교함
+ */
+public final class ETags {
+
+	private ETags() {
+	}
+
+	/**
+	 * 버전 값들을 '-'로 이어 붙여 강한 ETag 문자열("...")을 만듦
+	 * 예 : ETags.of(3) -> "\"3\""
+	 */
+	public static String of(Object... parts) {
+		StringBuilder etag = new StringBuilder("\"");
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0) {
+				etag.append('-');
+			}
+			etag.append(parts[i]);
+		}
+		return etag.append('"').toString();
+	}
+
+	/**
+	 * If-None-Match 헤더에 현재 ETag가 들어 있는지 확인
+	 * (If-None-Match는 약한 비교를 하므로 W/ 접두사는 무시, "*"는 항상 일치)
+	 * @param ifNoneMatch 요청의 If-None-Match 헤더 값 (없으면 null)
+	 * @param etag 현재 리소스의 ETag
+	 */
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || etag == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.equals("*")) {
+				return true;
+			}
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
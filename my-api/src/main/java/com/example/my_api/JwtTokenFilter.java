@@ -4,8 +4,11 @@ import java.io.IOException;
 
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,9 +19,43 @@ public class JwtTokenFilter extends OncePerRequestFilter {
 	
 	private final JwtTokenProvider jwtTokenProvider;
 	
+	// 토큰을 검사하지 않아도 되는 요청 (누구나 볼 수 있는 GET 등, null이면 모든 요청 검사)
+	private final RequestMatcher skipMatcher;
+	
+	// 요청 처리 결과별 횟수 (메트릭 : jwt.filter.requests{result=...})
+	private final Counter skipped;		// 공개 요청이라 토큰 검사를 건너뜀
+	private final Counter verified;		// 토큰 검증 성공
+	private final Counter rejected;		// 토큰이 있지만 유효하지 않음
+	private final Counter anonymous;	// 토큰 없음
+	
 	// 2. JwtTokenProvider를 주입받음
-    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, RequestMatcher skipMatcher, MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.skipMatcher = skipMatcher;
+        this.skipped = requestCounter(meterRegistry, "skipped");
+        this.verified = requestCounter(meterRegistry, "verified");
+        this.rejected = requestCounter(meterRegistry, "rejected");
+        this.anonymous = requestCounter(meterRegistry, "anonymous");
+    }
+    
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    	return Counter.builder("jwt.filter.requests")
+    			.description("JwtTokenFilter를 거친 요청 수 (토큰 검사 결과별)")
+    			.tag("result", result)
+    			.register(meterRegistry);
+    }
+    
+    /**
+     * 공개 읽기 요청(GET /api/board/** 등)은 필터를 아예 실행하지 않음
+     * -> Authorization 헤더를 읽지도, 토큰을 검증하지도 않음 (익명 사용자로 처리되고, permitAll 이라 문제없음)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+    	if (skipMatcher != null && skipMatcher.matches(request)) {
+    		skipped.increment();
+    		return true;
+    	}
+    	return false;
     }
     
     /**
@@ -33,11 +70,13 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         //    HTTP 요청(request)에서 토큰을 꺼내옵니다. (아래 헬퍼 메서드 사용)
         String token = resolveToken(request);
 
-        // 2. "출입증(토큰) 검증"
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            
-            // 3. "신원 확인 완료" (토큰이 유효할 경우)
-            Authentication auth = jwtTokenProvider.getAuthentication(token); 
+        // 2. "출입증(토큰) 검증" + 3. "신원 확인"
+        //    서명 검증과 Payload 해석을 한 번에 (이미 검증한 토큰이면 캐시에서 바로 꺼냄)
+        //    토큰이 없거나 유효하지 않으면 null
+        Authentication auth = (token != null) ? jwtTokenProvider.authenticate(token) : null;
+        (token == null ? anonymous : auth == null ? rejected : verified).increment();
+        
+        if (auth != null) {
             
             // 4. "보안 금고에 등록"
             //    Spring Security의 "보안 금고"(SecurityContext)를 열어서,
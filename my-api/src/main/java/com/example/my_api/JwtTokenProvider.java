@@ -1,20 +1,31 @@
 package com.example.my_api;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.ArrayList;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component // 1. Spring Bean으로 등록
 public class JwtTokenProvider {
@@ -23,24 +34,60 @@ public class JwtTokenProvider {
 	//	   이 키는 application.properties에 따로 보관
 	private final Key key;
 	
+	// 서명 검증용 해석기(parser)는 불변 객체이므로 한 번만 만들어서 모든 요청에서 공유
+	private final JwtParser parser;
+	
+	// 검증된 토큰 캐시 (토큰 다이제스트 -> 사용자 정보, 항목마다 토큰의 exp 시각에 만료)
+	private final Cache<String, VerifiedToken> verifiedTokens;
+	
+	// 토큰에 사용자 ID를 담을 클레임 이름
+	// (쓰기 요청마다 username으로 users 테이블을 조회하지 않도록 ID를 토큰에 함께 넣음)
+	public static final String USER_ID_CLAIM = "uid";
+	
 	// 3. 토큰 유효 시간(예 : 1시간)
 	private final long validityInMilliseconds = 3600000; // 1h
 	
 	// 4. application.properties에서 비밀키 값을 읽어봐 Key 객체로 변환
-	public JwtTokenProvider(@Value("${jwt.secret}") String secretKey) {
+	public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+			@Value("${jwt.cache.max-size}") long cacheMaxSize,
+			MeterRegistry meterRegistry) {
 		// 주입받은 비밀 문자열(secretKey)을 byte 배열로 변환
         // jjwt 라이브러리의 Keys 유틸리티를 사용하여, HMAC-SHA 알고리즘(HS256)에 적합한 암호화 'Key' 객체를 생성
 		this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+		this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfter(new Expiry<String, VerifiedToken>() {
+					@Override
+					public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+						// 토큰의 남은 유효 시간만큼만 캐시에 보관
+						return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAt() - System.currentTimeMillis()));
+					}
+
+					@Override
+					public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+						return expireAfterCreate(digest, token, currentTime);
+					}
+
+					@Override
+					public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+						return currentDuration; // 조회해도 만료 시각은 그대로
+					}
+				})
+				.recordStats() // 적중/미스 통계 기록
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtVerified");
 	}
 	
-	// 5. [토근 생성] 사용자 이름(usernmae)으로 토큰을 생성
-	public String createToken(String username) {
+	// 5. [토근 생성] 사용자 이름(usernmae)과 사용자 ID로 토큰을 생성
+	public String createToken(String username, long userId) {
 		// 'Claims'는 토큰에 담을 정보(Payload)의 단위(Key-Value 쌍)
 		Claims claims = Jwts.claims()
 				// 'Subject'(주제)로 사용자 이름(username)을 지정
 	            // (즉, 이 토큰의 '주인'이 누구인지 명시)
 				.setSubject(username);
 				// (필요시 claims.put("roles", "USER"); 같은 추가 정보 저장 가능)
+		claims.put(USER_ID_CLAIM, userId); // 사용자 ID (PK)
 		
 		Date now = new Date(); // 현재 시간
 		Date validity = new Date(now.getTime() + validityInMilliseconds); // 만료 시간
@@ -53,54 +100,68 @@ public class JwtTokenProvider {
                 .compact(); 				// 5) 위 내용을 조합하여 실제 JWT 문자열(String)으로 압축(생성)
 	}
 	
-	// 6. [토큰 검증] 토큰이 유효한지 + 만료되었는지 확인
-	public boolean validateToken(String token) {
-		try {
-			Jwts.parserBuilder()		// 토큰을 해석(parse)하는 빌더를 생성
-				.setSigningKey(key)		// 우리가 보관 중인 'key'로 서명 검증
-				.build()				//  해석기(parser) 생성
-				.parseClaimsJws(token); // 실제 'token'을 해석
-			return true;
-		} catch(Exception e) {
-			return false;
+	// 6. [토큰 검증 + 인증 정보 생성] 요청 1번에 토큰 해석(서명 검증)도 1번만
+	//    검증에 성공한 토큰은 '토큰의 SHA-256 다이제스트' -> 사용자 정보로 캐시
+	//    (같은 토큰으로 계속 요청하면 HMAC 검증과 JSON 파싱을 다시 하지 않음)
+	//    캐시 항목은 토큰의 만료 시간(exp)이 되면 함께 사라지므로, 만료된 토큰이 캐시 덕분에 통과하는 일은 없음
+	/**
+	 * @param token 요청 헤더의 JWT 문자열
+	 * @return 유효한 토큰이면 Authentication, 위조/만료/형식 오류면 null
+	 */
+	public Authentication authenticate(String token) {
+		String digest = digest(token);
+		VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+		if (verified == null || verified.expiresAt() <= System.currentTimeMillis()) {
+			Claims claims = parseClaims(token);
+			if (claims == null) {
+				return null;
+			}
+			verified = new VerifiedToken(toPrincipal(claims), claims.getExpiration().getTime());
+			verifiedTokens.put(digest, verified);
 		}
+		return toAuthentication(verified.principal());
 	}
 	
-	// 7. [정보 추출] 유효한 토큰에서 'Payload'에 저장된 사용자 이름(Subject) 추출
-	public String getUsername(String token) {
-		return Jwts.parserBuilder().setSigningKey(key).build()  // 1) 토큰 해석
-					.parseClaimsJws(token)	// 2) 검증 및 파싱
-					.getBody()				// 3) 'Payload'(Claims) 부분
-					.getSubject();			// 4) Payload에 저장했던 'Subject'(username) 반환
-	}
-	
-	/**
-     * 8. [인증 정보 생성]
-     * 토큰이 유효할 때, 토큰에 담긴 정보(username)를 기반으로
-     * Spring Security의 'Authentication' 객체(인증 정보)를 생성합니다.
-     *
-     * @param token 검증된 JWT 토큰
-     * @return Spring Security가 이해할 수 있는 Authentication 객체
-     */
-    public Authentication getAuthentication(String token) {
-        // 1. 토큰에서 사용자 이름(username)을 가져옴
-        String username = this.getUsername(token);
-
-        // 2. [중요] 'UserDetails' 객체 생성
-        //    (원래는 DB에서 사용자 Role을 조회해야 하지만, 지금은 간단히 "USER" 권한 부여)
-        //    비밀번호는 이미 검증되었으므로 ""(빈칸) 처리
-        UserDetails userDetails = User.builder()
-                .username(username)
-                .password("") // (중요) 비밀번호는 비워둠
-                .authorities(new ArrayList<>()) // (권한 목록, 지금은 비워둠)
-                .build();
-
-        // 3. 'Authentication' 객체(UsernamePasswordAuthenticationToken)를 생성하여 반환
+    // 서명과 만료 시간을 검증하고 Payload(Claims) 반환, 유효하지 않으면 null
+    private Claims parseClaims(String token) {
+    	try {
+    		Claims claims = parser.parseClaimsJws(token).getBody();
+    		// exp가 없는 토큰은 만료되지 않으므로 받지 않음 (이 서버가 발급한 토큰은 항상 exp가 있음)
+    		return claims.getExpiration() != null ? claims : null;
+    	} catch (JwtException | IllegalArgumentException e) {
+    		return null;
+    	}
+    }
+    
+    // Payload(Claims) -> principal 객체(AuthUser)
+    // 사용자 ID를 함께 담아서, 서비스 계층이 DB 조회 없이 작성자를 연결할 수 있도록 함
+    // (uid 클레임이 없는 예전 토큰이면 ID는 null -> CurrentUserResolver가 username으로 조회)
+    private static AuthUser toPrincipal(Claims claims) {
+    	return new AuthUser(claims.get(USER_ID_CLAIM, Long.class), claims.getSubject());
+    }
+    
+    // principal -> 'Authentication' 객체(UsernamePasswordAuthenticationToken)
+    // (원래는 DB에서 사용자 Role을 조회해야 하지만, 지금은 권한 목록을 비워둠)
+    private static Authentication toAuthentication(AuthUser principal) {
         return new UsernamePasswordAuthenticationToken(
-            userDetails, // (주체, Principal) - 사용자 정보
+            principal,   // (주체, Principal) - 사용자 정보
             "",          // (자격 증명, Credentials) - 비밀번호 (비워둠)
-            userDetails.getAuthorities() // (권한, Authorities)
+            Collections.emptyList() // (권한, Authorities)
         );
     }
+    
+    // 캐시 키 : 토큰 원문 대신 SHA-256 다이제스트 (원문 토큰을 메모리에 오래 남기지 않고, 키 길이도 일정)
+    private static String digest(String token) {
+    	try {
+    		byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+    		return Base64.getEncoder().encodeToString(hash);
+    	} catch (NoSuchAlgorithmException e) {
+    		throw new IllegalStateException(e); // SHA-256은 모든 JVM이 지원해야 하는 알고리즘
+    	}
+    }
+    
+    // 검증된 토큰의 사용자 정보와 만료 시각(ms)
+    private record VerifiedToken(AuthUser principal, long expiresAt) {
+    }
 
 }
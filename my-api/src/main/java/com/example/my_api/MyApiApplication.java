@@ -2,10 +2,16 @@ package com.example.my_api;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC 자동 설정 제외 : ConnectionFactory Bean이 생기면 JDBC DataSource(JPA) 자동 설정이 꺼지므로
+// (논블로킹 읽기 API는 ReactiveReadServer가 ConnectionFactory를 직접 만들어 씀)
+@SpringBootApplication(exclude = { R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class })
 @EnableJpaAuditing // JPA Auditing 기능 활성화 어노테이션 추가
+@EnableScheduling // @Scheduled 배치 작업(댓글 수 보정 등) 활성화
 public class MyApiApplication {
 
 	public static void main(String[] args) {
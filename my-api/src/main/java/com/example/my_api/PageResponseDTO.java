@@ -0,0 +1,119 @@
+package com.example.my_api;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import lombok.Getter;
+
+/**
+ * 목록 조회 공통 응답 DTO (페이지 번호 방식 / 커서 방식)
+ * Spring Data의 PageImpl을 그대로 JSON으로 만들면 pageable, sort, first, last, empty 등
+ * 화면에서 쓰지 않는 필드가 함께 나가고, Spring Data도 그 형식이 바뀔 수 있다고 경고함
+ * -> 화면에 필요한 값만 고정된 형식으로 내려줌
+ *
+ * - 페이지 번호 방식 : {"items": [...], "page": 0, "size": 10, "totalElements": 15, "totalPages": 2, "hasNext": true}
+ * - 커서 방식 : {"items": [...], "nextCursor": "...", "hasNext": true}
+ *
+ * Jackson이 getter를 리플렉션으로 찾지 않도록 JsonSerializable로 직접 씀
+ * (필드 이름은 미리 인코딩해 둔 SerializedString, 값이 없는 필드는 생략)
+ */
+@Getter
+public final class PageResponseDTO<T> implements JsonSerializable {
+
+	private static final SerializedString ITEMS = new SerializedString("items");
+	private static final SerializedString PAGE = new SerializedString("page");
+	private static final SerializedString SIZE = new SerializedString("size");
+	private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+	private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+	private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+	private static final SerializedString HAS_NEXT = new SerializedString("hasNext");
+
+	private final List<T> items;		// 현재 페이지 데이터
+	private final Integer page;			// 현재 페이지 번호 (커서 방식이면 null)
+	private final Integer size;			// 페이지 크기 (커서 방식이면 null)
+	private final Long totalElements;	// 전체 개수 (COUNT를 하지 않은 경우 null)
+	private final Integer totalPages;	// 전체 페이지 수 (COUNT를 하지 않은 경우 null)
+	private final String nextCursor;	// 다음 페이지 커서 (페이지 번호 방식이거나 마지막 페이지면 null)
+	private final boolean hasNext;		// 다음 페이지 존재 여부
+
+	private PageResponseDTO(List<T> items, Integer page, Integer size, Long totalElements, Integer totalPages,
+			String nextCursor, boolean hasNext) {
+		this.items = items;
+		this.page = page;
+		this.size = size;
+		this.totalElements = totalElements;
+		this.totalPages = totalPages;
+		this.nextCursor = nextCursor;
+		this.hasNext = hasNext;
+	}
+
+	// 페이지 번호 방식 (Page -> 응답 DTO)
+	public static <T> PageResponseDTO<T> of(Page<T> page) {
+		return new PageResponseDTO<>(page.getContent(), page.getNumber(), page.getSize(),
+				page.getTotalElements(), page.getTotalPages(), null, page.hasNext());
+	}
+
+	// 커서 방식 (다음 페이지가 없으면 nextCursor = null)
+	public static <T> PageResponseDTO<T> cursor(List<T> items, String nextCursor) {
+		return new PageResponseDTO<>(items, null, null, null, null, nextCursor, nextCursor != null);
+	}
+
+	@Override
+	public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+		gen.writeStartObject();
+
+		gen.writeFieldName(ITEMS);
+		gen.writeStartArray();
+		// 원소 타입의 serializer는 한 번만 찾아서 재사용 (목록은 보통 한 가지 타입)
+		Class<?> itemType = null;
+		JsonSerializer<Object> itemSerializer = null;
+		for (T item : items) {
+			if (item == null) {
+				gen.writeNull();
+				continue;
+			}
+			if (item.getClass() != itemType) {
+				itemType = item.getClass();
+				itemSerializer = serializers.findValueSerializer(itemType);
+			}
+			itemSerializer.serialize(item, gen, serializers);
+		}
+		gen.writeEndArray();
+
+		if (page != null) {
+			gen.writeFieldName(PAGE);
+			gen.writeNumber(page);
+			gen.writeFieldName(SIZE);
+			gen.writeNumber(size);
+		}
+		if (totalElements != null) {
+			gen.writeFieldName(TOTAL_ELEMENTS);
+			gen.writeNumber(totalElements);
+			gen.writeFieldName(TOTAL_PAGES);
+			gen.writeNumber(totalPages);
+		}
+		if (nextCursor != null) {
+			gen.writeFieldName(NEXT_CURSOR);
+			gen.writeString(nextCursor);
+		}
+		gen.writeFieldName(HAS_NEXT);
+		gen.writeBoolean(hasNext);
+
+		gen.writeEndObject();
+	}
+
+	@Override
+	public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+			throws IOException {
+		serialize(gen, serializers); // 다형성 타입 정보는 사용하지 않음
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.my_api;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 스레드 풀
+ * BCrypt는 일부러 느리게 만든 연산이라, 요청 스레드(Tomcat 워커)에서 실행하면
+ * 로그인이 몰릴 때 워커가 모두 묶여서 게시글 조회 같은 가벼운 요청까지 밀림
+ * -> 크기가 정해진 풀 + 크기가 정해진 대기열에서만 실행하고, 대기열이 가득 차면 기다리지 않고 바로 503
+ *
+ * 메트릭
+ * - auth.password.hash : 해싱/비교 1번에 걸린 시간 (operation 태그)
+ * - auth.password.rejected : 풀이 가득 차서 거절된 요청 수
+ * - executor.queued, executor.active 등 (name=passwordHashing) : 대기열 길이, 실행 중인 작업 수
+ */
+@Component
+public class PasswordHashingExecutor {
+
+	private static final String NAME = "passwordHashing";
+
+	private final ThreadPoolExecutor executor;
+	private final MeterRegistry meterRegistry;
+	private final Counter rejected;
+
+	public PasswordHashingExecutor(@Value("${auth.hash.pool-size:0}") int poolSize,
+			@Value("${auth.hash.queue-capacity}") int queueCapacity,
+			MeterRegistry meterRegistry) {
+		// 해싱은 CPU 작업이므로 기본 크기는 CPU 코어 수
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), namedThreads(),
+				new ThreadPoolExecutor.AbortPolicy()); // 가득 차면 RejectedExecutionException
+		this.meterRegistry = meterRegistry;
+		this.rejected = Counter.builder("auth.password.rejected")
+				.description("해싱 풀이 가득 차서 503으로 거절된 요청 수")
+				.register(meterRegistry);
+		new ExecutorServiceMetrics(executor, NAME, Tags.empty()).bindTo(meterRegistry);
+	}
+
+	/**
+	 * 해싱 작업을 전용 풀에서 실행
+	 * @param operation 메트릭 태그 (encode, matches)
+	 * @param task 해싱 작업
+	 * @return 작업 결과 (작업이 던진 예외는 그대로 전달)
+	 * @throws ResponseStatusException 풀과 대기열이 모두 가득 찬 경우 503 Service Unavailable
+	 */
+	public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+		Timer timer = Timer.builder("auth.password.hash")
+				.description("비밀번호 해싱/비교 시간")
+				.tag("operation", operation)
+				.register(meterRegistry);
+		try {
+			return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private static ThreadFactory namedThreads() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
@@ -0,0 +1,174 @@
+package com.example.my_api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 읽기 API 핸들러 (ReactiveReadServer 에서 라우팅)
+ * JPA 대신 R2DBC(DatabaseClient)로 같은 H2 DB를 읽고, MVC 쪽과 같은 DTO로 응답
+ * - 목록/댓글은 Flux로 한 행씩 흘려보냄 : Accept가 application/x-ndjson 이면 줄 단위 JSON, 아니면 JSON 배열
+ * - 클라이언트가 느리게 읽으면 Reactor Netty가 쓰기를 멈추고, 그만큼 DB에서도 더 가져오지 않음(backpressure)
+ */
+class ReactiveBoardHandler {
+
+	private static final int DEFAULT_PAGE_SIZE = 10;
+	private static final int DEFAULT_COMMENT_SIZE = 100;
+	private static final int MAX_SIZE = 10_000; // 스트리밍이라 MVC보다 크게 허용
+
+	static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	private final DatabaseClient db;
+
+	ReactiveBoardHandler(DatabaseClient db) {
+		this.db = db;
+	}
+
+	/**
+	 * 게시글 목록 (커서 방식, 최신순)
+	 * GET /api/board?after={nextCursor}&size=10
+	 * (after는 MVC 커서 목록과 같은 형식, 비어 있으면 첫 페이지)
+	 * 다음 페이지가 있으면 응답 헤더 X-Next-Cursor 에 커서를 담음
+	 * (본문은 한 행씩 흘려보내므로 헤더를 먼저 보내야 함 -> 이 페이지의 마지막 ID를 ID만 읽는 쿼리로 먼저 찾음)
+	 */
+	Mono<ServerResponse> list(ServerRequest request) {
+		long after = request.queryParam("after")
+				.filter(cursor -> !cursor.isBlank())
+				.map(cursor -> CursorCodec.decode(cursor, 1)[0])
+				.orElse(Long.MAX_VALUE);
+		int size = size(request, DEFAULT_PAGE_SIZE);
+
+		// 이 페이지의 마지막 행(size번째)과 그다음 행의 ID (PK 인덱스만 읽음)
+		Mono<List<Long>> boundary = db.sql("select id from board where id < :after order by id desc limit 2 offset :offset")
+				.bind("after", after)
+				.bind("offset", size - 1)
+				.map((row, meta) -> row.get("id", Long.class))
+				.all()
+				.collectList();
+
+		return boundary.flatMap(ids -> {
+			// 행이 size개보다 적으면 남은 행을 모두 보냄
+			long last = ids.isEmpty() ? Long.MIN_VALUE : ids.get(0);
+			ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(responseType(request));
+			if (ids.size() == 2) {
+				response.header(NEXT_CURSOR_HEADER, CursorCodec.encode(last));
+			}
+			return response.body(boards(after, last, size), BoardSummaryDTO.class);
+		});
+	}
+
+	// after 미만 ~ last 이상의 게시글 (최신순, 최대 size개)
+	private Flux<BoardSummaryDTO> boards(long after, long last, int size) {
+		return db.sql("select b.id, b.title, substring(b.content, 1, "
+				+ BoardSummaryDTO.PREVIEW_LENGTH + ") as content_preview, u.username, b.comment_count "
+				+ "from board b left join users u on u.id = b.user_id "
+				+ "where b.id < :after and b.id >= :last order by b.id desc limit :size")
+				.bind("after", after)
+				.bind("last", last)
+				.bind("size", size)
+				.map((row, meta) -> new BoardSummaryDTO(
+						row.get("id", Long.class),
+						row.get("title", String.class),
+						row.get("content_preview", String.class),
+						row.get("username", String.class),
+						row.get("comment_count", Long.class)))
+				.all();
+	}
+
+	/**
+	 * 게시글 상세
+	 * GET /api/board/{id} (없으면 404)
+	 * MVC 쪽과 같은 ETag("버전-댓글수"), If-None-Match 가 같으면 본문 없이 304 Not Modified
+	 */
+	Mono<ServerResponse> detail(ServerRequest request) {
+		long id = boardId(request);
+
+		Mono<BoardResponseDTO> board = db.sql("select b.id, b.title, b.content, u.username, b.version, b.comment_count "
+				+ "from board b left join users u on u.id = b.user_id where b.id = :id")
+				.bind("id", id)
+				.map((row, meta) -> new BoardResponseDTO(
+						row.get("id", Long.class),
+						row.get("title", String.class),
+						row.get("content", String.class),
+						row.get("username", String.class),
+						row.get("version", Long.class),
+						row.get("comment_count", Long.class)))
+				.one();
+
+		return board.flatMap(dto -> {
+					String etag = BoardService.etagOf(dto);
+					return request.checkNotModified(etag)
+							.flatMap(notModified -> ServerResponse.from(notModified)
+									.cacheControl(CacheControl.noCache())
+									.build())
+							.switchIfEmpty(ServerResponse.ok()
+									.eTag(etag)
+									.cacheControl(CacheControl.noCache()) // 캐시는 하되, 쓰기 전에 항상 ETag로 재검증
+									.contentType(MediaType.APPLICATION_JSON)
+									.bodyValue(dto));
+				})
+				.switchIfEmpty(ServerResponse.notFound().build());
+	}
+
+	/**
+	 * 댓글 목록 (작성 순서대로)
+	 * GET /api/board/{id}/comments?size=100
+	 */
+	Mono<ServerResponse> comments(ServerRequest request) {
+		long boardId = boardId(request);
+		int size = size(request, DEFAULT_COMMENT_SIZE);
+
+		Flux<CommentResponseDTO> comments = db.sql("select c.id, c.content, u.username, c.created_at "
+				+ "from comments c join users u on u.id = c.user_id "
+				+ "where c.board_id = :boardId order by c.created_at, c.id limit :size")
+				.bind("boardId", boardId)
+				.bind("size", size)
+				.map((row, meta) -> new CommentResponseDTO(
+						row.get("id", Long.class),
+						row.get("content", String.class),
+						row.get("username", String.class),
+						row.get("created_at", LocalDateTime.class)))
+				.all();
+
+		return ServerResponse.ok().contentType(responseType(request)).body(comments, CommentResponseDTO.class);
+	}
+
+	// 경로의 게시글 ID (숫자가 아니면 400)
+	private static long boardId(ServerRequest request) {
+		try {
+			return Long.parseLong(request.pathVariable("id"));
+		} catch (NumberFormatException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 게시글 ID입니다.", e);
+		}
+	}
+
+	// size 파라미터를 1 ~ MAX_SIZE 범위로 제한 (숫자가 아니면 400)
+	private static int size(ServerRequest request, int defaultSize) {
+		int size;
+		try {
+			size = request.queryParam("size").map(Integer::parseInt).orElse(defaultSize);
+		} catch (NumberFormatException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 size 값입니다.", e);
+		}
+		return Math.min(Math.max(size, 1), MAX_SIZE);
+	}
+
+	// Accept에 NDJSON이 직접 적혀 있으면 한 줄에 하나씩 바로바로 내려보내고, 아니면 JSON 배열
+	// (*/* 도 NDJSON과 호환되므로 isCompatibleWith 로 비교하면 브라우저 요청까지 NDJSON이 됨)
+	private static MediaType responseType(ServerRequest request) {
+		List<MediaType> accept = request.headers().accept();
+		return accept.stream().anyMatch(type -> type.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON))
+				? MediaType.APPLICATION_NDJSON
+				: MediaType.APPLICATION_JSON;
+	}
+}
@@ -0,0 +1,143 @@
+package com.example.my_api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.handler.ResponseStatusExceptionHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 논블로킹 읽기 전용 API 서버 (WebFlux 함수형 라우터 + R2DBC, Reactor Netty)
+ * 기존 MVC(Tomcat, 8080)는 그대로 두고 별도 포트(기본 8081)에서 같은 DB를 읽음
+ * - Tomcat은 요청 1개당 스레드 1개를 쓰지만, Netty는 CPU 코어 수 정도의 이벤트 루프 스레드로
+ *   느리게 읽는 클라이언트 수만 개를 동시에 붙잡아 둘 수 있음
+ * - 쓰기(POST/PUT/DELETE)와 인증은 MVC 쪽에서만 처리 (여기는 누구나 볼 수 있는 GET만 제공)
+ *
+ * R2DBC ConnectionFactory를 Bean으로 등록하면 Spring Boot가 JDBC DataSource 자동 설정을 건너뛰므로(JPA 동작 안 함)
+ * Bean으로 등록하지 않고 여기서 직접 만들어 씀 (MyApiApplication 에서 R2DBC 자동 설정도 제외)
+ */
+@Component
+@Slf4j
+public class ReactiveReadServer implements SmartLifecycle {
+
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final int port;
+	private final String url;
+	private final String username;
+	private final String password;
+
+	private ConnectionFactory connectionFactory;
+	private DisposableServer server;
+	private volatile boolean running;
+
+	public ReactiveReadServer(ObjectMapper objectMapper,
+			@Value("${reactive.server.enabled}") boolean enabled,
+			@Value("${reactive.server.port}") int port,
+			@Value("${reactive.r2dbc.url}") String url,
+			@Value("${spring.datasource.username}") String username,
+			@Value("${spring.datasource.password}") String password) {
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.port = port;
+		this.url = url;
+		this.username = username;
+		this.password = password;
+	}
+
+	@Override
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		// MVC와 같은 H2 인메모리 DB(testdb)에 R2DBC 커넥션 풀로 접속
+		connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+				.option(ConnectionFactoryOptions.USER, username)
+				.option(ConnectionFactoryOptions.PASSWORD, password)
+				.build());
+		ReactiveBoardHandler handler = new ReactiveBoardHandler(DatabaseClient.create(connectionFactory));
+
+		RouterFunction<ServerResponse> routes = RouterFunctions.route()
+				.GET("/api/board", handler::list)
+				.GET("/api/board/{id}", handler::detail)
+				.GET("/api/board/{id}/comments", handler::comments)
+				.build();
+
+		HandlerStrategies strategies = HandlerStrategies.builder()
+				.codecs(codecs -> {
+					// MVC와 같은 ObjectMapper 사용 (JsonSerializable DTO, 날짜 형식 등 응답 형식을 맞춤)
+					codecs.defaultCodecs().jackson2JsonEncoder(
+							new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON, MediaType.APPLICATION_NDJSON));
+					codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+				})
+				.webFilter(new CorsWebFilter(corsConfigurationSource()))
+				.exceptionHandler(new ResponseStatusExceptionHandler()) // 잘못된 커서 등 ResponseStatusException -> 상태 코드
+				.build();
+
+		HttpHandler httpHandler = RouterFunctions.toHttpHandler(routes, strategies);
+		server = HttpServer.create()
+				.port(port)
+				.handle(new ReactorHttpHandlerAdapter(httpHandler))
+				.bindNow();
+		running = true;
+		log.info("논블로킹 읽기 API 시작 : port {}", server.port());
+	}
+
+	@Override
+	public void stop() {
+		if (server != null) {
+			server.disposeNow();
+		}
+		if (connectionFactory instanceof Closeable closeable) {
+			Mono.from(closeable.close()).block(); // 커넥션 풀 정리
+		}
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// 실제로 바인딩된 포트 (reactive.server.port=0 이면 빈 포트 번호, 실행 중이 아니면 -1)
+	int boundPort() {
+		return server != null ? server.port() : -1;
+	}
+
+	// MVC(SecurityConfig)와 같은 CORS 설정 (GET만)
+	private static UrlBasedCorsConfigurationSource corsConfigurationSource() {
+		CorsConfiguration configuration = new CorsConfiguration();
+		configuration.setAllowedOrigins(List.of("http://localhost:3000"));
+		configuration.setAllowedMethods(List.of("GET"));
+		configuration.setAllowedHeaders(List.of("Accept", "Cache-Control", "If-None-Match"));
+		configuration.setExposedHeaders(List.of("ETag", ReactiveBoardHandler.NEXT_CURSOR_HEADER));
+		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+		source.registerCorsConfiguration("/**", configuration);
+		return source;
+	}
+}
@@ -1,7 +1,9 @@
 package com.example.my_api;
 
 import java.util.Arrays;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,26 +14,45 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration		// 1.이 클래스가 Spring '설정' 클래스임을 알림
 @EnableWebSecurity	// 2. SpringSecurity 활성화
 public class SecurityConfig {
 	
 	// 2. JwtTokenProvider를 주입받음
     private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+    
+    // 공개 GET 요청에서 토큰 검사를 건너뛸지 여부
+    private final boolean skipPublicReads;
+    // 공개 GET 이지만 로그인 사용자에 따라 응답이 달라져서 토큰이 필요한 경로 (예 : /api/board/mine)
+    private final List<String> personalizedReadPaths;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry,
+    		@Value("${security.jwt.skip-public-reads}") boolean skipPublicReads,
+    		@Value("${security.jwt.personalized-read-paths:}") List<String> personalizedReadPaths) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.meterRegistry = meterRegistry;
+        this.skipPublicReads = skipPublicReads;
+        this.personalizedReadPaths = personalizedReadPaths;
     }
 	// 3. 비밀번호 암호화(해싱)를 위한 PasswordEncoder Bean 등록
 	//    AuthService에서 이 객체를 주입받아 비밀번호를 암호화하고 비교하는 데 사용
 	@Bean // 👈 이 메서드가 반환하는 객체(Bean)를 Spring 관리
-	public PasswordEncoder passwordEncoder() {
+	public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength}") int strength) {
 		// BCrypt는 강력한 해시 알고리즘 중 하나
-		return new BCryptPasswordEncoder();
+		// strength(작업 계수) : 1 올릴 때마다 해싱 시간이 2배 (기존 해시는 로그인할 때 새 값으로 다시 해싱)
+		return new BCryptPasswordEncoder(strength);
 	}
 	
 	// 4. Spring Security의 메인 보안 설정을 정의
@@ -62,6 +83,10 @@ public class SecurityConfig {
                     // /api/auth/** (로그인/회원가입), /h2-console/** 는 누구나 허용
                     .requestMatchers("/h2-console/**", "/api/auth/**").permitAll() 
                     
+                    // Actuator 헬스 체크는 누구나 허용 (로드밸런서/모니터링용)
+                    // 메트릭(/actuator/metrics/**)은 내부 구현(캐시, 스레드 풀, 요청 수)이 드러나므로 아래 anyRequest()에서 인증 필요
+                    .requestMatchers("/actuator/health").permitAll()
+                    
                     // "읽기" 전용 (GET) 요청은 누구나 허용
                     // - GET /api/board (게시글 목록)
                     // - GET /api/board/{id} (게시글 상세)
@@ -77,7 +102,7 @@ public class SecurityConfig {
             //    Spring Security의 'UsernamePasswordAuthenticationFilter' (로그인 처리 필터)
             //    *이전에* 배치하라고 명령합니다.
             .addFilterBefore(
-                new JwtTokenFilter(jwtTokenProvider), // (경비원 필터)
+                new JwtTokenFilter(jwtTokenProvider, publicReadMatcher(), meterRegistry), // (경비원 필터)
                 UsernamePasswordAuthenticationFilter.class // (로그인 필터)
             );;
 		
@@ -85,6 +110,31 @@ public class SecurityConfig {
 		return http.build();
 	}
 	
+	/**
+	 * JwtTokenFilter가 토큰 검사를 건너뛸 요청
+	 * = 누구나 허용하는 GET /api/board, /api/board/** (위 permitAll 규칙과 같은 경로)
+	 *   단, personalizedReadPaths 에 해당하는 경로는 제외 (토큰이 있어야 응답을 만들 수 있음)
+	 * skip-public-reads=false 이면 null (모든 요청에서 토큰 검사)
+	 */
+	private RequestMatcher publicReadMatcher() {
+		if (!skipPublicReads) {
+			return null;
+		}
+		PathPatternRequestMatcher.Builder paths = PathPatternRequestMatcher.withDefaults();
+		RequestMatcher publicReads = new OrRequestMatcher(
+				paths.matcher(HttpMethod.GET, "/api/board"),
+				paths.matcher(HttpMethod.GET, "/api/board/**"));
+		
+		List<RequestMatcher> personalized = personalizedReadPaths.stream()
+				.filter(path -> !path.isBlank())
+				.map(path -> (RequestMatcher) paths.matcher(HttpMethod.GET, path.trim()))
+				.toList();
+		if (personalized.isEmpty()) {
+			return publicReads;
+		}
+		return new AndRequestMatcher(publicReads, new NegatedRequestMatcher(new OrRequestMatcher(personalized)));
+	}
+	
 	// ---[CORS 상세 설정 Bean 추가] ---
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
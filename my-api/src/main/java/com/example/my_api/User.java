@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -17,7 +18,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "users")	// DB 테이블 이름을 'user' 대신 'users'로 지정 (user는 DB 예약어인 경우가 많음)
 public class User {
     @Id // 이 필드를 기본키(PK)로 지정
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID 자동 증가 설정
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq") // ID 자동 증가 설정
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50) // 50개씩 미리 할당 (INSERT 배치 가능)
 	private long id;
     
     @Column(nullable = false, unique = true) // null 불가, 중복(unique) 불가
@@ -0,0 +1,78 @@
+package com.example.my_api;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * username -> (사용자 ID, 비밀번호 해시) 로컬 캐시 (UserRepository.findByUsername 앞단)
+ * username과 ID의 관계는 사실상 바뀌지 않으므로, 로그인이나 예전 토큰(uid 클레임 없음) 처리 때마다
+ * users 테이블을 조회하지 않도록 캐시함
+ * - 비밀번호 해시도 함께 담음 (해시 안에 BCrypt 버전/작업 계수가 들어 있어서 다시 해싱이 필요한지도 알 수 있음)
+ * - 회원가입, 비밀번호 재해싱 등 사용자 정보가 바뀌면 invalidate
+ * - 적중/미스 횟수는 Micrometer 메트릭(cache.gets{cache=userByUsername})으로 노출
+ */
+@Component
+public class UserLookupCache {
+
+	private static final String CACHE_NAME = "userByUsername";
+
+	/**
+	 * 캐시에 담는 사용자 정보 (User 엔티티 대신 필요한 값만)
+	 */
+	public record CachedUser(long id, String username, String passwordHash) {
+	}
+
+	private final UserRepository userRepository;
+	private final Cache<String, CachedUser> cache;
+
+	public UserLookupCache(UserRepository userRepository,
+			@Value("${user.cache.max-size}") long maxSize,
+			@Value("${user.cache.ttl-seconds}") long ttlSeconds,
+			MeterRegistry meterRegistry) {
+		this.userRepository = userRepository;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // DB를 직접 수정한 경우에 대비한 최대 유지 시간
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * username으로 사용자 조회 (캐시에 없을 때만 DB 조회)
+	 * 없는 사용자는 캐시하지 않음 (곧 가입할 수 있으므로)
+	 */
+	public Optional<CachedUser> findByUsername(String username) {
+		return Optional.ofNullable(cache.get(username, key -> userRepository.findByUsername(key)
+				.map(user -> new CachedUser(user.getId(), user.getUsername(), user.getPassword()))
+				.orElse(null)));
+	}
+
+	/**
+	 * 사용자 정보가 바뀌었을 때 해당 항목 제거
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 제거 (BoardDetailCache.evict 와 같은 이유)
+	 */
+	public void invalidate(String username) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(username);
+				}
+			});
+		} else {
+			cache.invalidate(username);
+		}
+	}
+}
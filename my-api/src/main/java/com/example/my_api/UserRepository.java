@@ -2,6 +2,10 @@ package com.example.my_api;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -12,4 +16,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 2. (회원가입 시) 사용자 이름이 이미 존재하는지 확인하는 메서드
     boolean existsByUsername(String username);
+
+    // 3. (로그인 시) 작업 계수가 바뀐 비밀번호 해시를 새 해시로 교체
+    //    조회한 뒤 다른 곳에서 비밀번호가 바뀌었다면 덮어쓰지 않음 (oldHash 조건)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int updatePasswordHash(@Param("id") long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
\ No newline at end of file
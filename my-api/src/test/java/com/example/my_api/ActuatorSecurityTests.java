@@ -0,0 +1,48 @@
+package com.example.my_api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Actuator 접근 권한 : 헬스 체크는 누구나, 메트릭은 로그인한 사용자만 조회 가능한지 검사
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void healthIsPublic() throws Exception {
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+	}
+
+	@Test
+	void metricsRequireAuthentication() throws Exception {
+		mockMvc.perform(get("/actuator/metrics")).andExpect(status().is4xxClientError());
+		mockMvc.perform(get("/actuator/metrics/jwt.filter.requests")).andExpect(status().is4xxClientError());
+
+		User user = new User();
+		user.setUsername("metrics-" + System.nanoTime());
+		user.setPassword("hash");
+		user = userRepository.save(user);
+		String bearer = "Bearer " + jwtTokenProvider.createToken(user.getUsername(), user.getId());
+
+		mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, bearer))
+				.andExpect(status().isOk());
+	}
+}
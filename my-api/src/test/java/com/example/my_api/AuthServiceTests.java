@@ -0,0 +1,62 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 낮은 작업 계수(4)로 저장된 비밀번호 해시가 로그인할 때 현재 계수(auth.bcrypt.strength=10)로
+ * 조건부 UPDATE(oldHash 조건)를 통해 딱 한 번만 교체되는지 검사 (auth.bcrypt.strength 기본값 10 사용)
+ */
+@SpringBootTest
+class AuthServiceTests {
+
+	private static final int CONCURRENT_LOGINS = 4;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Test
+	void upgradesWeakHashOnceOnLogin() throws Exception {
+		String weakHash = new BCryptPasswordEncoder(4).encode("pw");
+		User user = new User();
+		user.setUsername("upgrade-" + System.nanoTime());
+		user.setPassword(weakHash);
+		user = userRepository.save(user);
+
+		// 같은 (예전) 해시를 본 로그인 여러 개가 동시에 교체를 시도해도 모두 성공
+		List<CompletableFuture<String>> logins = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+			logins.add(authService.login(user.getUsername(), "pw"));
+		}
+		for (CompletableFuture<String> login : logins) {
+			assertThat(login.get(30, TimeUnit.SECONDS)).isNotBlank();
+		}
+
+		String upgradedHash = userRepository.findById(user.getId()).orElseThrow().getPassword();
+		assertThat(upgradedHash).startsWith("$2a$10$");
+		assertThat(passwordEncoder.matches("pw", upgradedHash)).isTrue();
+
+		// 예전 해시 조건은 더 이상 맞지 않으므로, 늦게 도착한 교체는 아무 행도 바꾸지 못함
+		assertThat(userRepository.updatePasswordHash(user.getId(), weakHash, passwordEncoder.encode("pw"))).isZero();
+
+		// 이미 현재 계수인 해시는 다시 교체하지 않음
+		assertThat(authService.login(user.getUsername(), "pw").get(30, TimeUnit.SECONDS)).isNotBlank();
+		assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo(upgradedHash);
+	}
+}
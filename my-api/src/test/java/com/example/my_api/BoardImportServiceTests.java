@@ -0,0 +1,136 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 게시글 일괄 등록이 JDBC 배치로 실행되는지 검사하고, 처리량(rows/s)은 benchmark 태그에서 출력
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BoardImportServiceTests {
+
+	private static final int BOARD_COUNT = 2_000;
+	private static final int COMMENTS_PER_BOARD = 4;
+
+	@Autowired
+	private BoardImportService boardImportService;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		user.setUsername("importer-" + System.nanoTime());
+		user.setPassword("hash");
+		user = userRepository.save(user);
+
+		AuthUser principal = new AuthUser(user.getId(), user.getUsername());
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(principal, "", Collections.emptyList()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void importsBoardsAndCommentsInJdbcBatches() throws Exception {
+		byte[] body = buildPayload(BOARD_COUNT).getBytes(StandardCharsets.UTF_8);
+		long boardsBefore = boardRepository.count();
+		long commentsBefore = commentRepository.count();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		BoardImportResultDTO result = boardImportService.importBoards(new ByteArrayInputStream(body));
+		long rows = result.getBoardCount() + result.getCommentCount();
+
+		assertThat(result.getBoardCount()).isEqualTo(BOARD_COUNT);
+		assertThat(result.getCommentCount()).isEqualTo((long) BOARD_COUNT * COMMENTS_PER_BOARD);
+		assertThat(boardRepository.count() - boardsBefore).isEqualTo(BOARD_COUNT);
+		assertThat(commentRepository.count() - commentsBefore).isEqualTo((long) BOARD_COUNT * COMMENTS_PER_BOARD);
+
+		// 행마다 INSERT 문을 준비했다면 rows 개 이상이 됨
+		// 배치라면 (시퀀스 조회 + 배치당 INSERT 문)으로 행 수보다 훨씬 적어야 함
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(rows / 10);
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	@Test
+	@Tag("benchmark")
+	void importThroughput() throws Exception {
+		int boardCount = 20_000;
+		byte[] body = buildPayload(boardCount).getBytes(StandardCharsets.UTF_8);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		BoardImportResultDTO result = boardImportService.importBoards(new ByteArrayInputStream(body));
+
+		long rows = result.getBoardCount() + result.getCommentCount();
+		System.out.printf("bulk import : %d rows in %d ms (%d rows/s), %d statements prepared%n",
+				rows, result.getElapsedMillis(), result.getRowsPerSecond(), statistics.getPrepareStatementCount());
+		assertThat(result.getBoardCount()).isEqualTo(boardCount);
+	}
+
+	@Test
+	void unknownAuthorIsReportedAsNotFound() {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+				new AuthUser(Long.MAX_VALUE, "deleted-user"), "", Collections.emptyList()));
+		long boardsBefore = boardRepository.count();
+		byte[] body = "[{\"title\":\"t\",\"content\":\"c\",\"comments\":[]}]".getBytes(StandardCharsets.UTF_8);
+
+		assertThatThrownBy(() -> boardImportService.importBoards(new ByteArrayInputStream(body)))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+		assertThat(boardRepository.count()).isEqualTo(boardsBefore); // 트랜잭션이 롤백됨
+	}
+
+	private static String buildPayload(int boardCount) {
+		StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < boardCount; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"title\":\"legacy ").append(i).append("\",\"content\":\"content ").append(i)
+					.append("\",\"comments\":[");
+			for (int j = 0; j < COMMENTS_PER_BOARD; j++) {
+				if (j > 0) {
+					json.append(',');
+				}
+				json.append("{\"content\":\"comment ").append(i).append('-').append(j).append("\"}");
+			}
+			json.append("]}");
+		}
+		return json.append(']').toString();
+	}
+}
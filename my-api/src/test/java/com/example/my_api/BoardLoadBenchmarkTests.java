@@ -0,0 +1,230 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 플랫폼 스레드(기본) / 가상 스레드(virtual 프로필) 요청 처리 비교 벤치마크
+ * - 프로필마다 애플리케이션을 빈 포트에 띄우고, 게시글을 미리 넣은 뒤 동시 클라이언트 수만큼 GET /api/board 를 반복 호출
+ *   (페이지 번호 방식 목록 = count + select, 매 요청이 JDBC/H2를 거침)
+ * - 처리량(requests/s)과 지연 p50/p99/max를 출력
+ * - virtual 프로필에서는 측정이 끝난 뒤 짧은 부하를 한 번 더 주면서 JFR 이벤트 jdk.VirtualThreadPinned 를 기록해서,
+ *   캐리어 스레드에 고정된 횟수와 위치(JDBC/H2 등)를 출력 (측정 중에 기록하면 JFR 스트림 비용이 결과에 섞임)
+ * 가상 스레드는 Java 21 이상 필요 (17이면 virtual 프로필은 건너뜀)
+ * 기본 test 태스크에서는 제외 (./gradlew benchmark -PjavaVersion=21, 설정은 build.gradle 참고)
+ */
+@Tag("benchmark")
+class BoardLoadBenchmarkTests {
+
+	private static final int CONCURRENCY = Integer.getInteger("board.benchmark.concurrency", 1_000);
+	private static final int REQUESTS_PER_CLIENT = Integer.getInteger("board.benchmark.requests", 100);
+
+	private static final int BOARD_COUNT = 1_000;
+	private static final int PAGE_SIZE = 20;
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	@Test
+	void throughputAndLatencyPerThreadModel() throws Exception {
+		for (String profile : List.of("default", "virtual")) {
+			if ("virtual".equals(profile) && Runtime.version().feature() < 21) {
+				System.out.printf("board list %-7s : skipped (Java %d, virtual threads need 21+)%n",
+						profile, Runtime.version().feature());
+				continue;
+			}
+			Result result = run(profile);
+			long[] latencies = result.sortedLatencies();
+			System.out.printf("board list %-7s : %,d clients, %,d requests in %d ms (%,d requests/s), "
+					+ "latency p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+					profile, CONCURRENCY, latencies.length, result.elapsedNanos() / 1_000_000,
+					latencies.length * 1_000_000_000L / Math.max(1, result.elapsedNanos()),
+					millis(percentile(latencies, 50)), millis(percentile(latencies, 99)),
+					millis(latencies.length > 0 ? latencies[latencies.length - 1] : 0));
+			if (result.pinnedSites() != null) {
+				System.out.printf("board list %-7s : %,d pinned events (separate pass, %,d requests)%n", profile,
+						result.pinnedCount(), CONCURRENCY * Math.max(1, REQUESTS_PER_CLIENT / 10));
+				result.pinnedSites().entrySet().stream()
+						.sorted(Map.Entry.<String, LongAdder>comparingByValue(
+								(a, b) -> Long.compare(b.sum(), a.sum())))
+						.limit(10)
+						.forEach(site -> System.out.printf("    %,8d  %s%n", site.getValue().sum(), site.getKey()));
+			}
+
+			assertThat(result.errors()).isZero();
+			assertThat(latencies).hasSize(CONCURRENCY * REQUESTS_PER_CLIENT);
+		}
+	}
+
+	private Result run(String profile) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MyApiApplication.class)
+				.profiles("virtual".equals(profile) ? new String[] { "virtual" } : new String[0])
+				.run("--server.port=0", "--reactive.server.enabled=false",
+						"--spring.datasource.url=jdbc:h2:mem:bench-" + profile)) {
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			seed(context);
+
+			HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+			ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY);
+			try {
+				// 준비 : JIT / 커넥션 풀 예열 (측정에서 제외)
+				load(client, clients, port, Math.max(1, REQUESTS_PER_CLIENT / 10), null);
+
+				long[] latencies = new long[CONCURRENCY * REQUESTS_PER_CLIENT];
+				AtomicInteger errors = new AtomicInteger();
+				long start = System.nanoTime();
+				load(client, clients, port, REQUESTS_PER_CLIENT, new Recorder(latencies, errors));
+				long elapsed = System.nanoTime() - start;
+
+				// pinning 기록은 측정이 끝난 뒤 따로 (스택 트레이스를 남기는 JFR 스트림은 그 자체로 처리량을 떨어뜨림)
+				Map<String, LongAdder> pinnedSites = "virtual".equals(profile) ? new ConcurrentHashMap<>() : null;
+				LongAdder pinnedCount = new LongAdder();
+				if (pinnedSites != null) {
+					recordPinning(() -> load(client, clients, port, Math.max(1, REQUESTS_PER_CLIENT / 10), null),
+							pinnedCount, pinnedSites);
+				}
+				return new Result(latencies, elapsed, errors.get(), pinnedCount.sum(), pinnedSites);
+			} finally {
+				clients.shutdown();
+			}
+		}
+	}
+
+	private static void seed(ConfigurableApplicationContext context) {
+		User user = new User();
+		user.setUsername("bench");
+		user.setPassword("hash");
+		user = context.getBean(UserRepository.class).save(user);
+
+		List<Board> boards = new ArrayList<>(BOARD_COUNT);
+		for (int i = 0; i < BOARD_COUNT; i++) {
+			Board board = new Board();
+			board.setTitle("title " + i);
+			board.setContent("content " + i);
+			board.setAuthor(user);
+			boards.add(board);
+		}
+		context.getBean(BoardRepository.class).saveAll(boards);
+	}
+
+	// 클라이언트마다 스레드 1개가 응답을 받을 때까지 기다렸다가 다음 요청을 보냄 (동시 요청 수 = CONCURRENCY)
+	private static void load(HttpClient client, ExecutorService clients, int port, int requestsPerClient,
+			Recorder recorder) {
+		List<CompletableFuture<Void>> running = new ArrayList<>(CONCURRENCY);
+		for (int c = 0; c < CONCURRENCY; c++) {
+			int clientIndex = c;
+			running.add(CompletableFuture.runAsync(() -> {
+				for (int i = 0; i < requestsPerClient; i++) {
+					int page = (clientIndex + i) % (BOARD_COUNT / PAGE_SIZE);
+					HttpRequest request = HttpRequest.newBuilder(
+							URI.create("http://localhost:" + port + "/api/board?page=" + page + "&size=" + PAGE_SIZE))
+							.timeout(Duration.ofSeconds(60))
+							.GET().build();
+					long sent = System.nanoTime();
+					int status;
+					try {
+						status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+					} catch (Exception e) {
+						status = -1;
+					}
+					if (recorder != null) {
+						recorder.record(clientIndex * requestsPerClient + i, System.nanoTime() - sent, status);
+					}
+				}
+			}, clients));
+		}
+		running.forEach(CompletableFuture::join);
+	}
+
+	// 부하를 주는 동안 jdk.VirtualThreadPinned 이벤트를 위치별로 집계
+	private static void recordPinning(Runnable load, LongAdder pinnedCount, Map<String, LongAdder> pinnedSites)
+			throws InterruptedException {
+		AtomicBoolean loadFinished = new AtomicBoolean();
+		CountDownLatch flushedAfterLoad = new CountDownLatch(1);
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+			recording.onEvent(PINNED_EVENT, event -> {
+				pinnedCount.increment();
+				pinnedSites.computeIfAbsent(pinnedSite(event.getStackTrace() != null
+						? event.getStackTrace().getFrames() : List.of()), site -> new LongAdder()).increment();
+			});
+			recording.onFlush(() -> {
+				if (loadFinished.get()) {
+					flushedAfterLoad.countDown();
+				}
+			});
+			recording.startAsync();
+			load.run();
+			// 부하가 끝난 뒤의 flush까지 기다려야 그 사이의 이벤트가 모두 전달됨
+			loadFinished.set(true);
+			flushedAfterLoad.await(10, TimeUnit.SECONDS);
+		}
+	}
+
+	// 고정된 위치 : JDK 내부가 아닌 첫 프레임 (H2, Hikari, Hibernate, Tomcat 등)
+	private static String pinnedSite(List<RecordedFrame> frames) {
+		for (RecordedFrame frame : frames) {
+			String type = frame.getMethod().getType().getName();
+			if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+				return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+			}
+		}
+		return frames.isEmpty() ? "(no stack trace)" : frames.get(0).getMethod().getType().getName();
+	}
+
+	// 요청 지연 기록 (요청마다 자리가 정해진 배열, 락 없음)
+	private record Recorder(long[] latencies, AtomicInteger errors) {
+
+		void record(int index, long latencyNanos, int status) {
+			latencies[index] = latencyNanos;
+			if (status != 200) {
+				errors.incrementAndGet();
+			}
+		}
+	}
+
+	private record Result(long[] latencies, long elapsedNanos, int errors, long pinnedCount,
+			Map<String, LongAdder> pinnedSites) {
+
+		long[] sortedLatencies() {
+			long[] sorted = latencies.clone();
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+
+	private static long percentile(long[] sorted, int percent) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percent / 100.0) - 1)];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
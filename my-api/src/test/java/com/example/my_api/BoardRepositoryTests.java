@@ -0,0 +1,106 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 게시글 조회 쿼리가 실행하는 SQL 개수를 Hibernate 통계로 검사
+ * (작성자 LAZY 로딩으로 인한 N+1 문제가 다시 생기지 않도록 방지)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BoardRepositoryTests {
+
+	private static final int BOARD_COUNT = 15;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	private Statistics statistics;
+
+	private long lastBoardId;
+
+	@BeforeEach
+	void setUp() {
+		// 게시글마다 다른 작성자를 두어, N+1이 있다면 작성자 수만큼 SELECT가 늘어나도록 함
+		for (int i = 0; i < BOARD_COUNT; i++) {
+			User author = new User();
+			author.setUsername("writer" + i);
+			author.setPassword("hash");
+			em.persist(author);
+
+			Board board = new Board();
+			board.setTitle("title" + i);
+			board.setContent("content" + i);
+			board.setAuthor(author);
+			lastBoardId = em.persist(board).getId();
+		}
+		em.flush();
+		em.clear(); // 영속성 컨텍스트를 비워서 실제 DB 조회가 일어나도록 함
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void pageQueryRunsOneSelectAndOneCount() {
+		Page<BoardSummaryDTO> page = boardRepository.findAllSummaries(
+				PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+		assertThat(page.getContent()).hasSize(10);
+		assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getAuthorUsername()).startsWith("writer"));
+		assertThat(page.getContent().get(0).getContentPreview()).isEqualTo("content" + (BOARD_COUNT - 1));
+		assertThat(page.getTotalElements()).isEqualTo(BOARD_COUNT);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 페이지 1번 + COUNT 1번
+	}
+
+	@Test
+	void listPreviewIsTruncatedInQuery() {
+		Board longBoard = new Board();
+		longBoard.setTitle("long");
+		longBoard.setContent("가".repeat(BoardSummaryDTO.PREVIEW_LENGTH + 50));
+		em.persistAndFlush(longBoard);
+		em.clear();
+
+		BoardSummaryDTO summary = boardRepository.findAllSummaries(
+				PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id"))).getContent().get(0);
+
+		assertThat(summary.getContentPreview()).hasSize(BoardSummaryDTO.PREVIEW_LENGTH);
+		assertThat(summary.getAuthorUsername()).isNull();
+	}
+
+	@Test
+	void detailQueryRunsOneSelect() {
+		BoardResponseDTO dto = boardRepository.findDtoById(lastBoardId).orElseThrow();
+
+		assertThat(dto.getAuthorUsername()).isEqualTo("writer" + (BOARD_COUNT - 1));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void cursorQueryRunsOneSelectWithoutCount() {
+		var slice = boardRepository.findSummariesByIdLessThan(Long.MAX_VALUE,
+				PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+		assertThat(slice.getContent()).hasSize(10);
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 게시글 검색 색인의 토큰화, AND 검색, 점수 순서, 수정/삭제 반영을 검사
+ * 벤치마크 : 게시글 100만 건 색인의 검색 지연과 힙 크기
+ * (트랜잭션 밖에서 호출하므로 index/remove가 바로 반영됨)
+ */
+class BoardSearchIndexTests {
+
+	private BoardSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new BoardSearchIndex(null); // DB 초기 색인(build)은 사용하지 않음
+		index.index(1, "스프링 게시판 만들기", "JPA로 게시판을 만듭니다.");
+		index.index(2, "리액트 공부", "게시판 화면을 리액트로 만들었습니다.");
+		index.index(3, "Spring Security", "JWT 인증");
+	}
+
+	@Test
+	void tokenizesHangulIntoBigramsAndLatinIntoWords() {
+		assertThat(BoardSearchIndex.tokenize("게시판을 Spring!")).containsExactly("게시", "시판", "판을", "spring");
+		assertThat(BoardSearchIndex.tokenize("글 a")).containsExactly("글", "a");
+	}
+
+	@Test
+	void ranksTitleMatchesFirst() {
+		BoardSearchIndex.Result result = index.search("게시판", 0, 10);
+
+		assertThat(result.total()).isEqualTo(2);
+		assertThat(result.ids()).containsExactly(1L, 2L); // 1번은 제목에도 있음
+	}
+
+	@Test
+	void requiresAllTermsAndPaginates() {
+		assertThat(index.search("게시판 리액트", 0, 10).ids()).containsExactly(2L);
+		assertThat(index.search("게시판 없는말", 0, 10).total()).isZero();
+
+		BoardSearchIndex.Result secondPage = index.search("게시판", 1, 1);
+		assertThat(secondPage.ids()).containsExactly(2L);
+		assertThat(secondPage.total()).isEqualTo(2);
+	}
+
+	@Test
+	void reflectsUpdatesAndDeletes() {
+		index.index(3, "Spring Boot", "게시판 백엔드");
+		assertThat(index.search("security", 0, 10).total()).isZero();
+		assertThat(index.search("게시판", 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+		index.remove(1);
+		assertThat(index.search("게시판", 0, 10).ids()).containsExactlyInAnyOrder(2L, 3L);
+	}
+
+	@Test
+	void removesManyDocumentsAndReusesFreedTerms() {
+		BoardSearchIndex many = new BoardSearchIndex(null);
+		for (int i = 1; i <= 20_000; i++) {
+			many.index(i, "title" + i, "common group" + (i % 100));
+		}
+		for (int i = 2; i <= 20_000; i += 2) {
+			many.remove(i);
+		}
+
+		assertThat(many.search("common", 0, 10).total()).isEqualTo(10_000);
+		assertThat(many.search("group2", 0, 10).total()).isZero(); // 짝수 그룹은 모두 삭제됨
+		assertThat(many.search("title20000", 0, 10).total()).isZero();
+		assertThat(many.search("title19999", 0, 10).ids()).containsExactly(19_999L);
+
+		// 비워진 단어 번호를 새 단어가 다시 써도 남은 게시글의 수정/삭제가 맞게 반영되어야 함
+		for (int i = 2; i <= 20_000; i += 2) {
+			many.index(i, "again" + i, "fresh");
+		}
+		for (int i = 1; i <= 20_000; i += 2) {
+			many.index(i, "updated", "fresh");
+		}
+		assertThat(many.search("common", 0, 10).total()).isZero();
+		assertThat(many.search("fresh", 0, 10).total()).isEqualTo(20_000);
+		assertThat(many.search("again20000", 0, 10).ids()).containsExactly(20_000L);
+		assertThat(many.search("updated", 0, 10).total()).isEqualTo(10_000);
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	// 게시글 100만 건 (제목 4단어 + 본문 20단어, 자주 나오는 단어에 치우친 분포) 색인 후
+	// 1~2단어 검색의 지연(p50/p99/max)과 색인이 차지하는 힙 크기(GC 후 사용량 차이)를 출력
+	@Test
+	@Tag("benchmark")
+	void lookupLatencyAndHeapAtOneMillionDocuments() {
+		int documents = 1_000_000;
+		int queries = 2_000;
+		Random random = new Random(42);
+
+		long heapBefore = usedHeapAfterGc();
+		long start = System.nanoTime();
+		BoardSearchIndex large = new BoardSearchIndex(null);
+		for (int i = 1; i <= documents; i++) {
+			large.index(i, words(random, 4), words(random, 20));
+		}
+		long buildMillis = (System.nanoTime() - start) / 1_000_000;
+		long heapBytes = usedHeapAfterGc() - heapBefore;
+
+		String[] searches = new String[queries];
+		for (int i = 0; i < queries; i++) {
+			searches[i] = words(random, 1 + random.nextInt(2));
+		}
+		for (String query : searches) { // 워밍업
+			large.search(query, 0, 20);
+		}
+		long[] latencies = new long[queries];
+		long matched = 0;
+		for (int i = 0; i < queries; i++) {
+			long sent = System.nanoTime();
+			matched += large.search(searches[i], 0, 20).total();
+			latencies[i] = System.nanoTime() - sent;
+		}
+		Arrays.sort(latencies);
+
+		System.out.printf("search index (%,d documents) : built in %,d ms, heap %,d MB (%,d bytes per document), "
+				+ "%,d queries (avg %,d matches) p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+				documents, buildMillis, heapBytes / (1024 * 1024), heapBytes / documents,
+				queries, matched / queries, latencies[queries / 2] / 1e6, latencies[queries * 99 / 100] / 1e6,
+				latencies[queries - 1] / 1e6);
+		assertThat(large.search("w0", 0, 20).total()).isPositive();
+	}
+
+	// 단어 0 ~ 49,999 중 앞쪽 번호에 치우치게 뽑음 (실제 글처럼 흔한 단어가 많이 나옴)
+	private static String words(Random random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(" w").append((int) (50_000 * Math.pow(random.nextDouble(), 4)));
+		}
+		return text.toString();
+	}
+
+	private static long usedHeapAfterGc() {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 여러 스레드가 같은 게시글을 동시에 수정할 때 '마지막 저장이 이기는' 유실 없이
+ * 성공한 수정마다 버전이 1씩 오르고, 나머지는 409 Conflict 로 거절되는지 검사
+ */
+@SpringBootTest
+class BoardUpdateConcurrencyTests {
+
+	private static final int THREADS = 16;
+
+	@Autowired
+	private BoardService boardService;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private AuthUser author;
+	private long boardId;
+	private long initialVersion;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		user.setUsername("editor-" + System.nanoTime());
+		user.setPassword("hash");
+		user = userRepository.save(user);
+		author = new AuthUser(user.getId(), user.getUsername());
+
+		Board board = new Board();
+		board.setTitle("original");
+		board.setContent("original");
+		board.setAuthor(user);
+		board = boardRepository.save(board);
+		boardId = board.getId();
+		initialVersion = board.getVersion();
+	}
+
+	@Test
+	void staleVersionIsRejectedExceptForOneWriter() throws Exception {
+		// 모두 같은 화면(같은 버전)을 보고 수정 -> 하나만 성공해야 함
+		List<Integer> statuses = hammer(true);
+
+		assertThat(statuses).filteredOn(status -> status == 200).hasSize(1);
+		assertThat(statuses).filteredOn(status -> status == 409).hasSize(THREADS - 1);
+		assertThat(boardRepository.findById(boardId).orElseThrow().getVersion()).isEqualTo(initialVersion + 1);
+	}
+
+	@Test
+	void concurrentWritesNeverOverwriteSilently() throws Exception {
+		// 버전 없이 수정 -> 조회와 UPDATE 사이에 끼어든 수정은 @Version 조건에 걸려 409
+		List<Integer> statuses = hammer(false);
+
+		long succeeded = statuses.stream().filter(status -> status == 200).count();
+		assertThat(succeeded).isPositive();
+		assertThat(statuses).allMatch(status -> status == 200 || status == 409);
+		// 성공한 수정마다 버전이 정확히 1씩 올라감 (덮어쓴 수정이 없음)
+		assertThat(boardRepository.findById(boardId).orElseThrow().getVersion()).isEqualTo(initialVersion + succeeded);
+	}
+
+	// THREADS개 스레드가 동시에 같은 게시글을 수정하고, 각 요청의 HTTP 상태 코드를 모음
+	private List<Integer> hammer(boolean sendVersion) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch ready = new CountDownLatch(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < THREADS; i++) {
+				int writer = i;
+				futures.add(executor.submit(() -> {
+					SecurityContextHolder.getContext().setAuthentication(
+							new UsernamePasswordAuthenticationToken(author, "", Collections.emptyList()));
+					Board edit = new Board();
+					edit.setTitle("title by " + writer);
+					edit.setContent("content by " + writer);
+					edit.setVersion(sendVersion ? initialVersion : null);
+
+					ready.countDown();
+					start.await();
+					try {
+						boardService.updateBoard(boardId, edit);
+						return HttpStatus.OK.value();
+					} catch (ResponseStatusException e) {
+						return e.getStatusCode().value();
+					} finally {
+						SecurityContextHolder.clearContext();
+					}
+				}));
+			}
+			ready.await();
+			start.countDown();
+
+			List<Integer> statuses = new ArrayList<>();
+			for (Future<Integer> future : futures) {
+				statuses.add(future.get());
+			}
+			return statuses;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
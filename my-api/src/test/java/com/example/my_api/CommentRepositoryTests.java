@@ -0,0 +1,153 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import com.sun.management.ThreadMXBean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 댓글 목록 조회가 실행하는 SQL 개수를 Hibernate 통계로 검사
+ * (Comment.board / Comment.author 가 EAGER 였을 때는 댓글마다 게시글/작성자 SELECT가 추가됐음)
+ * 벤치마크 : 엔티티 경로와 DTO 프로젝션의 목록 1회당 SQL 수, 할당 바이트(ThreadMXBean) 비교
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentRepositoryTests {
+
+	private static final int COMMENT_COUNT = 20;
+	private static final int BENCHMARK_COMMENT_COUNT = 500;
+	private static final int ITERATIONS = 200;
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CommentRepository commentRepository;
+
+	private Statistics statistics;
+
+	private long boardId;
+
+	@BeforeEach
+	void setUp() {
+		User boardAuthor = em.persist(newUser("board-writer"));
+
+		Board board = new Board();
+		board.setTitle("title");
+		board.setContent("content");
+		board.setAuthor(boardAuthor);
+		boardId = em.persist(board).getId();
+
+		// 댓글마다 다른 작성자를 두어, 작성자를 따로 읽는다면 SELECT 수가 늘어나도록 함
+		for (int i = 0; i < COMMENT_COUNT; i++) {
+			Comment comment = new Comment();
+			comment.setContent("comment" + i);
+			comment.setBoard(board);
+			comment.setAuthor(em.persist(newUser("commenter" + i)));
+			em.persist(comment);
+		}
+		em.flush();
+		em.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void commentPageRunsOneSelectAndLoadsNoEntities() {
+		List<CommentResponseDTO> page = commentRepository.findFirstPage(boardId, PageRequest.of(0, 10));
+
+		assertThat(page).hasSize(10);
+		assertThat(page).allSatisfy(dto -> {
+			assertThat(dto.getAuthorUsername()).startsWith("commenter");
+			assertThat(dto.getCreatedAt()).isNotNull();
+		});
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero(); // Board/User/Comment 엔티티를 하나도 만들지 않음
+	}
+
+	@Test
+	void nextPageContinuesAfterCursor() {
+		List<CommentResponseDTO> first = commentRepository.findFirstPage(boardId, PageRequest.of(0, 10));
+		CommentResponseDTO last = first.get(first.size() - 1);
+
+		List<CommentResponseDTO> second = commentRepository.findPageAfter(
+				boardId, last.getCreatedAt(), last.getId(), PageRequest.of(0, 10));
+
+		assertThat(second).hasSize(COMMENT_COUNT - 10);
+		assertThat(second).extracting(CommentResponseDTO::getId).doesNotContainAnyElementsOf(
+				first.stream().map(CommentResponseDTO::getId).toList());
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	// 이전 방식(findByBoardId 로 Comment 엔티티를 읽고 DTO로 변환)과 DTO 프로젝션의 목록 1회당 SQL 수, 할당 바이트 비교
+	@Test
+	@Tag("benchmark")
+	void statementsAndAllocationPerListing() {
+		Board board = em.find(Board.class, boardId);
+		for (int i = COMMENT_COUNT; i < BENCHMARK_COMMENT_COUNT; i++) {
+			Comment comment = new Comment();
+			comment.setContent("comment" + i);
+			comment.setBoard(board);
+			comment.setAuthor(em.persist(newUser("commenter" + i)));
+			em.persist(comment);
+		}
+		em.flush();
+		em.clear();
+
+		long[] entity = measure(() -> commentRepository.findByBoardId(boardId).stream()
+				.map(CommentResponseDTO::new)
+				.toList());
+		long[] projection = measure(() -> commentRepository.findFirstPage(boardId,
+				PageRequest.of(0, BENCHMARK_COMMENT_COUNT)));
+
+		System.out.printf("comment list (%d comments) : entity %d statements / %,d bytes per op, "
+				+ "projection %d statements / %,d bytes per op%n",
+				BENCHMARK_COMMENT_COUNT, entity[0], entity[1], projection[0], projection[1]);
+		assertThat(projection[0]).isLessThan(entity[0]);
+		assertThat(projection[1]).isLessThan(entity[1]);
+	}
+
+	// 워밍업 후 목록 1회당 평균 SQL 수, 현재 스레드의 할당 바이트 {statements, bytes}
+	// (매번 영속성 컨텍스트를 비워서 엔티티 경로도 실제 요청처럼 DB에서 다시 읽게 함)
+	private long[] measure(Supplier<List<CommentResponseDTO>> listing) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		for (int i = 0; i < ITERATIONS; i++) {
+			listing.get();
+			em.clear();
+		}
+		statistics.clear();
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++) {
+			assertThat(listing.get()).hasSize(BENCHMARK_COMMENT_COUNT);
+			em.clear();
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+		return new long[] { statistics.getPrepareStatementCount() / ITERATIONS, allocated / ITERATIONS };
+	}
+
+	private static User newUser(String username) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword("hash");
+		return user;
+	}
+}
@@ -0,0 +1,102 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * JwtTokenFilter가 공개 GET /api/board/** 요청은 토큰을 검사하지 않고,
+ * 쓰기 요청과 security.jwt.personalized-read-paths 경로는 계속 검사하는지,
+ * 결과별 요청 수(jwt.filter.requests)가 늘어나는지 검사
+ */
+@SpringBootTest(properties = "security.jwt.personalized-read-paths=/api/board/mine")
+@AutoConfigureMockMvc
+class JwtTokenFilterTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoSpyBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private String bearer;
+
+	@BeforeEach
+	void setUp() {
+		User user = new User();
+		user.setUsername("filter-" + System.nanoTime());
+		user.setPassword("hash");
+		user = userRepository.save(user);
+		bearer = "Bearer " + jwtTokenProvider.createToken(user.getUsername(), user.getId());
+	}
+
+	@Test
+	void publicReadsSkipTokenVerification() throws Exception {
+		double skippedBefore = requests("skipped");
+
+		mockMvc.perform(get("/api/board").header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().isOk());
+		mockMvc.perform(get("/api/board/search").param("q", "x").header(HttpHeaders.AUTHORIZATION, bearer));
+
+		verify(jwtTokenProvider, never()).authenticate(anyString());
+		assertThat(requests("skipped") - skippedBefore).isEqualTo(2);
+	}
+
+	@Test
+	void writesStillVerifyToken() throws Exception {
+		double verifiedBefore = requests("verified");
+		double anonymousBefore = requests("anonymous");
+
+		mockMvc.perform(post("/api/board").header(HttpHeaders.AUTHORIZATION, bearer)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"title\":\"filter\",\"content\":\"filter\"}"))
+				.andExpect(status().is2xxSuccessful());
+		mockMvc.perform(post("/api/board")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"title\":\"filter\",\"content\":\"filter\"}"))
+				.andExpect(status().is4xxClientError()); // 토큰 없음 -> 인증 필요
+
+		verify(jwtTokenProvider, times(1)).authenticate(anyString());
+		assertThat(requests("verified") - verifiedBefore).isEqualTo(1);
+		assertThat(requests("anonymous") - anonymousBefore).isEqualTo(1);
+	}
+
+	@Test
+	void personalizedReadPathsStillVerifyToken() throws Exception {
+		double verifiedBefore = requests("verified");
+		double rejectedBefore = requests("rejected");
+
+		mockMvc.perform(get("/api/board/mine").header(HttpHeaders.AUTHORIZATION, bearer));
+		mockMvc.perform(get("/api/board/mine").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt"));
+
+		verify(jwtTokenProvider, times(2)).authenticate(anyString());
+		assertThat(requests("verified") - verifiedBefore).isEqualTo(1);
+		assertThat(requests("rejected") - rejectedBefore).isEqualTo(1);
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("jwt.filter.requests").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,106 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 토큰 검증(1회 해석 + 검증 캐시) 동작 검사와 요청당 검증 비용 비교(benchmark 태그)
+ */
+class JwtTokenProviderTests {
+
+	private static final String SECRET = "test-secret-test-secret-test-secret-0123";
+	private static final int ITERATIONS = 20_000;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 1_000, meterRegistry);
+
+	@Test
+	void authenticatesValidTokenWithUserIdClaim() {
+		Authentication auth = provider.authenticate(provider.createToken("alice", 7L));
+
+		assertThat(auth).isNotNull();
+		assertThat(auth.getPrincipal()).isEqualTo(new AuthUser(7L, "alice"));
+	}
+
+	@Test
+	void rejectsTamperedAndExpiredTokens() {
+		String token = provider.createToken("alice", 7L);
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+		String expired = Jwts.builder()
+				.setSubject("alice")
+				.setExpiration(new Date(System.currentTimeMillis() - 1_000))
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+				.compact();
+
+		assertThat(provider.authenticate(tampered)).isNull();
+		assertThat(provider.authenticate(expired)).isNull();
+		assertThat(provider.authenticate("not-a-jwt")).isNull();
+	}
+
+	@Test
+	void repeatedTokenIsServedFromVerificationCache() {
+		String token = provider.createToken("alice", 7L);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(provider.authenticate(token).getPrincipal()).isEqualTo(new AuthUser(7L, "alice"));
+		}
+
+		// 첫 요청만 해석/서명 검증 (미스 1번), 이후는 캐시 적중
+		assertThat(cacheGets("miss")).isEqualTo(1);
+		assertThat(cacheGets("hit")).isEqualTo(2);
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	@Test
+	@Tag("benchmark")
+	void verificationCostPerRequest() {
+		String token = provider.createToken("alice", 7L);
+		Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+		JwtParser sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+
+		// 변경 전 필터 : 요청마다 parser를 새로 만들어 검증 + 인증 정보 생성 (해석/HMAC 검증 2번)
+		long before = time(() -> {
+			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+			return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		});
+		// 캐시 미스 : 공유 parser로 1번만 해석
+		long singleParse = time(() -> sharedParser.parseClaimsJws(token).getBody());
+		// 캐시 적중 : SHA-256 다이제스트 + 캐시 조회
+		long cached = time(() -> provider.authenticate(token));
+
+		System.out.printf("jwt verification per request : before %d ns, single parse %d ns, cached %d ns%n",
+				before, singleParse, cached);
+	}
+
+	// 워밍업 후 1회 평균 시간 (ns)
+	private static long time(Supplier<Object> task) {
+		Object sink = null;
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink = task.get();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink = task.get();
+		}
+		long elapsed = System.nanoTime() - start;
+		assertThat(sink).isNotNull();
+		return elapsed / ITERATIONS;
+	}
+
+	private double cacheGets(String result) {
+		return meterRegistry.get("cache.gets").tag("cache", "jwtVerified").tag("result", result).functionCounter().count();
+	}
+}
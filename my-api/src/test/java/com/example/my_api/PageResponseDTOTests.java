@@ -0,0 +1,98 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 목록 응답 형식 검사 + PageImpl을 그대로 직렬화할 때와 응답 크기 비교 (직렬화 시간은 benchmark 태그)
+ */
+class PageResponseDTOTests {
+
+	private static final int ITERATIONS = 20_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void pageEnvelopeContainsOnlyListFields() throws Exception {
+		JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(PageResponseDTO.of(samplePage())));
+
+		assertThat(json.fieldNames()).toIterable()
+				.containsExactly("items", "page", "size", "totalElements", "totalPages", "hasNext");
+		assertThat(json.get("items")).hasSize(10);
+		assertThat(json.get("items").get(0).get("contentPreview").asText()).isEqualTo("미리보기 0");
+		assertThat(json.get("totalPages").asInt()).isEqualTo(5);
+	}
+
+	@Test
+	void cursorEnvelopeOmitsPageFields() throws Exception {
+		JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(
+				PageResponseDTO.cursor(samplePage().getContent(), "abc")));
+
+		assertThat(json.fieldNames()).toIterable().containsExactly("items", "nextCursor", "hasNext");
+		assertThat(json.get("hasNext").asBoolean()).isTrue();
+	}
+
+	@Test
+	void compactEnvelopeIsSmallerThanPageImpl() throws Exception {
+		Page<BoardSummaryDTO> page = samplePage();
+
+		int pageImplBytes = objectMapper.writerFor(PageImpl.class).writeValueAsBytes(page).length;
+		int compactBytes = objectMapper.writerFor(PageResponseDTO.class).writeValueAsBytes(PageResponseDTO.of(page)).length;
+
+		assertThat(compactBytes).isLessThan(pageImplBytes);
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	@Test
+	@Tag("benchmark")
+	void serializationSizeAndTimePerEnvelope() throws Exception {
+		Page<BoardSummaryDTO> page = samplePage();
+		PageResponseDTO<BoardSummaryDTO> compact = PageResponseDTO.of(page);
+
+		// 각 형식에 맞는 writer를 미리 만들어 두고 재사용 (컨트롤러 응답과 같은 조건)
+		ObjectWriter pageImplWriter = objectMapper.writerFor(PageImpl.class);
+		ObjectWriter compactWriter = objectMapper.writerFor(PageResponseDTO.class);
+
+		int pageImplBytes = pageImplWriter.writeValueAsBytes(page).length;
+		int compactBytes = compactWriter.writeValueAsBytes(compact).length;
+
+		long pageImplNanos = time(pageImplWriter, page);
+		long compactNanos = time(compactWriter, compact);
+
+		System.out.printf("page response : PageImpl %d bytes / %d ns per op, PageResponseDTO %d bytes / %d ns per op%n",
+				pageImplBytes, pageImplNanos, compactBytes, compactNanos);
+	}
+
+	// 워밍업 후 1회 직렬화에 걸린 평균 시간 (ns)
+	private static long time(ObjectWriter writer, Object value) throws Exception {
+		for (int i = 0; i < ITERATIONS; i++) {
+			writer.writeValueAsBytes(value);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			writer.writeValueAsBytes(value);
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	private static Page<BoardSummaryDTO> samplePage() {
+		List<BoardSummaryDTO> items = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			items.add(new BoardSummaryDTO(50 - i, "제목 " + i, "미리보기 " + i, "writer" + i, i));
+		}
+		return new PageImpl<>(items, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")), 50);
+	}
+}
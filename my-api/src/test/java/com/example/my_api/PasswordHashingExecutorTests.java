@@ -0,0 +1,85 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 해싱 풀(스레드 1개)과 대기열(1칸)이 모두 차 있으면 로그인이 기다리지 않고 바로 503으로 거절되고,
+ * 거절 수(auth.password.rejected)가 늘어나는지 검사
+ */
+@SpringBootTest(properties = { "auth.hash.pool-size=1", "auth.hash.queue-capacity=1" })
+class PasswordHashingExecutorTests {
+
+	@Autowired
+	private PasswordHashingExecutor passwordHashingExecutor;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void rejectsLoginWith503WhenPoolAndQueueAreFull() throws Exception {
+		User user = new User();
+		user.setUsername("hash-full-" + System.nanoTime());
+		user.setPassword(passwordEncoder.encode("pw"));
+		userRepository.save(user);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Boolean> running = passwordHashingExecutor.submit("test", () -> {
+			started.countDown();
+			return await(release);
+		});
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue(); // 스레드 1개가 작업 중
+		CompletableFuture<Boolean> queued = passwordHashingExecutor.submit("test", () -> true); // 대기열 1칸 사용
+		double rejectedBefore = rejected();
+
+		try {
+			assertThatThrownBy(() -> authService.login(user.getUsername(), "pw"))
+					.isInstanceOfSatisfying(ResponseStatusException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+			assertThat(rejected() - rejectedBefore).isEqualTo(1);
+		} finally {
+			release.countDown();
+		}
+		assertThat(running.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(queued.get(10, TimeUnit.SECONDS)).isTrue();
+
+		// 풀이 비면 다시 받음
+		assertThat(authService.login(user.getUsername(), "pw").get(10, TimeUnit.SECONDS)).isNotBlank();
+	}
+
+	private double rejected() {
+		return meterRegistry.get("auth.password.rejected").counter().count();
+	}
+
+	private static boolean await(CountDownLatch latch) {
+		try {
+			return latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
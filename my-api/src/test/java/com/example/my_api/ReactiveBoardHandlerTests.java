@@ -0,0 +1,177 @@
+package com.example.my_api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * 논블로킹 읽기 API(ReactiveReadServer)를 실제로 바인딩된 포트로 호출해서
+ * 목록(JSON 배열 / NDJSON, X-Next-Cursor 로 다음 페이지), 상세(ETag, 304), 404, 잘못된 파라미터(400) 응답을 검사
+ */
+@SpringBootTest
+class ReactiveBoardHandlerTests {
+
+	@Autowired
+	private ReactiveReadServer reactiveReadServer;
+
+	@Autowired
+	private BoardRepository boardRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private WebTestClient client;
+	private final List<Board> boards = new ArrayList<>();
+	private Board board;
+
+	@BeforeEach
+	void setUp() {
+		client = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveReadServer.boundPort()).build();
+
+		User user = new User();
+		user.setUsername("reader-" + System.nanoTime());
+		user.setPassword("hash");
+		user = userRepository.save(user);
+
+		for (int i = 0; i < 3; i++) {
+			Board newBoard = new Board();
+			newBoard.setTitle("reactive " + i);
+			newBoard.setContent("content " + i);
+			newBoard.setAuthor(user);
+			board = boardRepository.save(newBoard); // 마지막 게시글 = 가장 최신
+			boards.add(board);
+		}
+	}
+
+	@Test
+	void listsLatestBoardsAsJsonArray() {
+		// 다른 테스트 컨텍스트가 같은 DB에 더 큰 ID로 게시글을 넣을 수 있으므로 이 테스트의 게시글부터 조회
+		client.get().uri("/api/board?size=3&after={cursor}", CursorCodec.encode(board.getId() + 1))
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(3)
+				.jsonPath("$[0].id").isEqualTo(board.getId())
+				.jsonPath("$[0].title").isEqualTo("reactive 2");
+	}
+
+	@Test
+	void browserAcceptGetsJsonArray() {
+		client.get().uri("/api/board?size=3")
+				.header(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,*/*;q=0.8")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(3);
+	}
+
+	@Test
+	void followsNextCursorToSecondPage() {
+		String start = CursorCodec.encode(board.getId() + 1);
+		List<Long> expected = ids(client.get().uri("/api/board?size=4&after={cursor}", start)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBodyList(BoardSummaryDTO.class)
+				.returnResult()
+				.getResponseBody());
+
+		EntityExchangeResult<List<BoardSummaryDTO>> firstPage = client.get()
+				.uri("/api/board?size=2&after={cursor}", start)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBodyList(BoardSummaryDTO.class)
+				.returnResult();
+		String nextCursor = firstPage.getResponseHeaders().getFirst(ReactiveBoardHandler.NEXT_CURSOR_HEADER);
+		assertThat(expected).hasSize(4).startsWith(boards.get(2).getId());
+		assertThat(ids(firstPage.getResponseBody())).containsExactlyElementsOf(expected.subList(0, 2));
+		assertThat(nextCursor).isEqualTo(CursorCodec.encode(expected.get(1)));
+
+		// 커서를 따라간 다음 페이지 = 한 번에 4개를 읽었을 때의 3, 4번째
+		// (ID를 직접 비교하지 않는 이유 : 다른 테스트 컨텍스트의 게시글 ID가 사이에 끼어 있을 수 있음)
+		List<Long> secondPage = ids(client.get().uri("/api/board?size=2&after={cursor}", nextCursor)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBodyList(BoardSummaryDTO.class)
+				.returnResult()
+				.getResponseBody());
+		assertThat(secondPage).containsExactlyElementsOf(expected.subList(2, 4));
+	}
+
+	@Test
+	void lastPageHasNoNextCursor() {
+		// ID 1 미만의 게시글은 없음
+		client.get().uri("/api/board?size=2&after={cursor}", CursorCodec.encode(1))
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().doesNotExist(ReactiveBoardHandler.NEXT_CURSOR_HEADER)
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(0);
+	}
+
+	@Test
+	void streamsBoardsAsNdjson() {
+		String body = client.get().uri("/api/board?size=3")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.expectBody(String.class)
+				.returnResult()
+				.getResponseBody();
+
+		assertThat(body).isNotNull();
+		assertThat(body.lines().filter(line -> !line.isBlank())).hasSize(3)
+				.allSatisfy(line -> assertThat(line).startsWith("{"));
+	}
+
+	@Test
+	void detailReturnsEtagAndNotModified() {
+		String etag = BoardService.etagOf(new BoardResponseDTO(board));
+
+		client.get().uri("/api/board/{id}", board.getId())
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+				.expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+				.expectBody()
+				.jsonPath("$.id").isEqualTo(board.getId());
+
+		client.get().uri("/api/board/{id}", board.getId())
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.exchange()
+				.expectStatus().isNotModified()
+				.expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+				.expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+				.expectBody().isEmpty();
+	}
+
+	@Test
+	void missingBoardIsNotFound() {
+		client.get().uri("/api/board/{id}", Long.MAX_VALUE)
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void malformedIdOrSizeIsBadRequest() {
+		client.get().uri("/api/board/abc").exchange().expectStatus().isBadRequest();
+		client.get().uri("/api/board/abc/comments").exchange().expectStatus().isBadRequest();
+		client.get().uri("/api/board?size=many").exchange().expectStatus().isBadRequest();
+	}
+
+	private static List<Long> ids(List<BoardSummaryDTO> boards) {
+		return boards.stream().map(BoardSummaryDTO::getId).toList();
+	}
+}
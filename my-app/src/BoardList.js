@@ -28,7 +28,7 @@ function BoardList() {
       try {
         const response = await axios.get(`http://localhost:8080/api/board?page=${currentPage}`);
         const pageData = response.data;
-        setList(pageData.content); 
+        setList(pageData.items); // PageResponseDTO : { items, page, size, totalElements, totalPages, hasNext }
         setTotalPages(pageData.totalPages); 
       } catch (e) {
         console.error("목록 데이터 로딩 실패: ", e);
@@ -91,7 +91,7 @@ function BoardList() {
               {/* 7. 제목과 작성자를 예쁘게 표시해주는 <ListItemText> */}
               <ListItemText 
                 primary={item.title} // 큰 글씨 (제목)
-                secondary={`작성자: ${item.authorUsername || '익명'}`} // 작은 글씨 (작성자)
+                secondary={`작성자: ${item.authorUsername || '익명'} · 댓글 ${item.commentCount ?? 0}`} // 작은 글씨 (작성자, 댓글 수)
               />
             </ListItemButton>
           </ListItem>
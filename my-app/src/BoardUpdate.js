@@ -62,6 +62,11 @@ function BoardUpdate() {
       console.error("수정 실패:", error);
       if (error.response && error.response.status === 403) {
         alert("이 게시글을 수정할 권한이 없습니다.");
+      } else if (error.response && error.response.status === 409) {
+        // 수정 화면을 연 뒤 다른 곳에서 먼저 수정됨 (form.version이 현재 버전과 다름)
+        alert("다른 곳에서 먼저 수정된 게시글입니다. 최신 내용을 다시 불러옵니다.");
+        const response = await axios.get(`http://localhost:8080/api/board/${boardId}`);
+        setForm(response.data);
       } else {
         alert("게시글 수정에 실패했습니다.");
       }
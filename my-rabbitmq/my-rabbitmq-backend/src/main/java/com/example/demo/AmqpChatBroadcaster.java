@@ -0,0 +1,39 @@
+package com.example.demo;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat.broker.mode=amqp 의 전달 경로
+ * 보내기 : RabbitTemplate으로 토픽 익스체인지에 바로 발행 (라우팅 키 room.{roomId}, STOMP 릴레이를 거치지 않음)
+ * 받기   : 이 노드의 큐로 들어온 메시지(= 이 노드에 구독자가 있는 방)를 내장 브로커로 넘겨서 로컬 세션들에게 전달
+ * 보낸 노드도 자기 큐를 통해서만 받으므로, 모든 노드가 같은 순서/같은 경로로 메시지를 받음
+ */
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "amqp")
+public class AmqpChatBroadcaster implements ChatBroadcaster {
+
+	@Autowired
+	private RabbitTemplate rabbitTemplate;
+
+	@Autowired
+	private TopicExchange chatRoomsExchange;
+
+	@Autowired
+	private SimpMessageSendingOperations messagingTemplate;
+
+	@Override
+	public void broadcast(String roomId, ChatMessage chatMessage) {
+		rabbitTemplate.convertAndSend(chatRoomsExchange.getName(), AmqpChatConfig.routingKey(roomId), chatMessage);
+	}
+
+	@RabbitListener(queues = "#{chatNodeQueue.name}")
+	public void deliver(ChatMessage chatMessage) {
+		messagingTemplate.convertAndSend(AmqpRoomBindings.ROOM_DESTINATION_PREFIX + chatMessage.getRoomId(), chatMessage);
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.demo;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * chat.broker.mode=amqp 일 때 사용하는 RabbitMQ 구성
+ * - 토픽 익스체인지(chat.rooms) 1개, 라우팅 키 = room.{roomId}
+ * - 노드마다 이름 없는 큐 1개 (exclusive + auto-delete, 노드가 내려가면 큐도 사라짐)
+ *   이 큐와 익스체인지 사이의 바인딩은 AmqpRoomBindings가 '이 노드에 구독자가 있는 방'만 동적으로 추가/제거
+ * (익스체인지와 큐는 RabbitAdmin이 연결될 때마다 자동으로 선언)
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "amqp")
+public class AmqpChatConfig {
+
+	static final String ROUTING_KEY_PREFIX = "room.";
+
+	@Bean
+	public TopicExchange chatRoomsExchange(@Value("${chat.amqp.exchange}") String name) {
+		return new TopicExchange(name, true, false);
+	}
+
+	@Bean
+	public Queue chatNodeQueue() {
+		return new AnonymousQueue(new Base64UrlNamingStrategy("chat.node."));
+	}
+
+	// RabbitTemplate / @RabbitListener 모두 ChatMessage를 JSON으로 주고받음 (Boot 자동 구성이 이 빈을 사용)
+	@Bean
+	public MessageConverter chatMessageConverter(ObjectMapper objectMapper) {
+		return new Jackson2JsonMessageConverter(objectMapper);
+	}
+
+	static String routingKey(String roomId) {
+		return ROUTING_KEY_PREFIX + roomId;
+	}
+}
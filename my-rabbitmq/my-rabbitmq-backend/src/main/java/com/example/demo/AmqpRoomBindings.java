@@ -0,0 +1,204 @@
+package com.example.demo;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * chat.broker.mode=amqp 일 때, 이 노드의 세션이 구독 중인 방만 노드 큐에 바인딩
+ * - 방마다 로컬 구독 수를 세어서 0 -> 1 이 될 때 바인딩 추가, 1 -> 0 이 될 때 제거
+ *   (같은 방을 구독하는 세션이 수천 개여도 바인딩은 1개, 구독/해제마다 RabbitMQ를 호출하지 않음)
+ * - 구독 수 변경만 compute 안에서 하고, RabbitMQ 호출은 그 밖에서 방(잠금 조각) 단위로 순서대로 처리
+ *   : 잠금을 잡은 뒤 '지금의 구독 수'와 '실제로 바인딩된 방'을 비교해서 맞춤 -> 추가/제거가 뒤바뀌어도 결과는 같음
+ * - 바인딩 추가에 실패한 방은 구독 중이지만 바인딩되지 않은 방으로 남고, 다음 구독이나 RabbitMQ 재연결 때 다시 시도
+ * - RabbitMQ에 다시 연결되면 큐가 새로 만들어지므로 (auto-delete) 현재 구독 중인 방을 모두 다시 바인딩
+ */
+@Component
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "amqp")
+@Slf4j
+public class AmqpRoomBindings {
+
+	static final String ROOM_DESTINATION_PREFIX = "/topic/room/";
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final AmqpAdmin amqpAdmin;
+	private final Queue chatNodeQueue;
+	private final TopicExchange chatRoomsExchange;
+
+	private final ConcurrentHashMap<String, Integer> roomSubscriptions = new ConcurrentHashMap<>(); // 방 ID -> 로컬 구독 수
+	private final ConcurrentHashMap<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>(); // 세션 -> (구독 ID -> 방 ID)
+	private final Set<String> boundRooms = ConcurrentHashMap.newKeySet(); // RabbitMQ에 실제로 바인딩된 방 (잠금 안에서만 변경)
+	private final Object[] locks = new Object[LOCK_STRIPES];
+
+	public AmqpRoomBindings(AmqpAdmin amqpAdmin, Queue chatNodeQueue, TopicExchange chatRoomsExchange,
+			ConnectionFactory connectionFactory) {
+		this.amqpAdmin = amqpAdmin;
+		this.chatNodeQueue = chatNodeQueue;
+		this.chatRoomsExchange = chatRoomsExchange;
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new Object();
+		}
+		// RabbitAdmin이 큐를 다시 선언한 뒤에 호출됨 (리스너 등록 순서)
+		connectionFactory.addConnectionListener(connection -> redeclareBindings());
+	}
+
+	@EventListener
+	public void handleSubscribe(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+	}
+
+	@EventListener
+	public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void handleDisconnect(SessionDisconnectEvent event) {
+		disconnect(event.getSessionId());
+	}
+
+	void subscribe(String sessionId, String subscriptionId, String destination) {
+		String roomId = roomIdOf(destination);
+		if (roomId == null || sessionId == null || subscriptionId == null) {
+			return;
+		}
+		String[] replaced = new String[1];
+		sessionSubscriptions.compute(sessionId, (id, subscriptions) -> {
+			Map<String, String> updated = subscriptions != null ? subscriptions : new HashMap<>();
+			replaced[0] = updated.put(subscriptionId, roomId);
+			return updated;
+		});
+		acquire(roomId);
+		if (replaced[0] != null) {
+			release(replaced[0]); // 같은 구독 ID로 다시 구독한 경우 이전 방은 해제
+		}
+	}
+
+	void unsubscribe(String sessionId, String subscriptionId) {
+		if (sessionId == null || subscriptionId == null) {
+			return;
+		}
+		String[] removed = new String[1];
+		// 마지막 구독이 빠지면 세션 항목도 지움 (구독만 해제하고 연결을 유지하는 세션이 항목을 남기지 않도록)
+		sessionSubscriptions.computeIfPresent(sessionId, (id, subscriptions) -> {
+			removed[0] = subscriptions.remove(subscriptionId);
+			return subscriptions.isEmpty() ? null : subscriptions;
+		});
+		if (removed[0] != null) {
+			release(removed[0]);
+		}
+	}
+
+	void disconnect(String sessionId) {
+		Map<String, String> subscriptions = sessionId != null ? sessionSubscriptions.remove(sessionId) : null;
+		if (subscriptions != null) {
+			subscriptions.values().forEach(this::release);
+		}
+	}
+
+	// 실제로 바인딩된 방 수
+	int boundRoomCount() {
+		return boundRooms.size();
+	}
+
+	// 구독 중인 세션 수
+	int sessionCount() {
+		return sessionSubscriptions.size();
+	}
+
+	private void acquire(String roomId) {
+		int count = roomSubscriptions.merge(roomId, 1, Integer::sum);
+		if (count == 1 || !boundRooms.contains(roomId)) {
+			syncBinding(roomId); // 0 -> 1, 또는 이전에 바인딩에 실패한 방
+		}
+	}
+
+	private void release(String roomId) {
+		Integer count = roomSubscriptions.computeIfPresent(roomId, (id, current) -> current > 1 ? current - 1 : null);
+		if (count == null) {
+			syncBinding(roomId); // 1 -> 0
+		}
+	}
+
+	// 지금의 구독 수에 맞게 바인딩을 추가/제거 (같은 방은 같은 잠금 -> RabbitMQ 호출 순서가 뒤섞이지 않음)
+	private void syncBinding(String roomId) {
+		synchronized (lockFor(roomId)) {
+			boolean subscribed = roomSubscriptions.containsKey(roomId);
+			boolean bound = boundRooms.contains(roomId);
+			if (subscribed && !bound) {
+				try {
+					amqpAdmin.declareBinding(binding(roomId));
+					boundRooms.add(roomId);
+				} catch (AmqpException e) {
+					log.error("방 {} 바인딩 실패 : 다음 구독이나 재연결 때 다시 시도 (그 전까지 이 노드의 구독자는 다른 노드의 메시지를 받지 못함)",
+							roomId, e);
+				}
+			} else if (!subscribed && bound) {
+				try {
+					amqpAdmin.removeBinding(binding(roomId));
+					boundRooms.remove(roomId);
+				} catch (AmqpException e) {
+					// 남은 바인딩은 불필요한 메시지를 받을 뿐이고, 큐가 다시 만들어질 때 사라짐
+					log.warn("방 {} 바인딩 제거 실패", roomId, e);
+				}
+			}
+		}
+	}
+
+	// 새 큐에는 바인딩이 없으므로, 바인딩 상태를 비우고 구독 중인 방(이전에 실패한 방 포함)을 다시 바인딩
+	private void redeclareBindings() {
+		Set<String> rooms = new HashSet<>(boundRooms);
+		rooms.addAll(roomSubscriptions.keySet());
+		for (String roomId : rooms) {
+			synchronized (lockFor(roomId)) {
+				boundRooms.remove(roomId);
+				syncBinding(roomId);
+			}
+		}
+	}
+
+	private Object lockFor(String roomId) {
+		return locks[Math.floorMod(roomId.hashCode(), LOCK_STRIPES)];
+	}
+
+	private Binding binding(String roomId) {
+		return BindingBuilder.bind(chatNodeQueue).to(chatRoomsExchange).with(AmqpChatConfig.routingKey(roomId));
+	}
+
+	/**
+	 * /topic/room/{roomId} 구독의 방 ID (그 외 목적지는 null)
+	 * 토픽 와일드카드(*, #)가 든 방 ID는 바인딩하면 다른 방 메시지까지 이 노드로 몰려오므로 제외
+	 */
+	static String roomIdOf(String destination) {
+		if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+			return null;
+		}
+		String roomId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+		if (roomId.isEmpty() || roomId.indexOf('*') >= 0 || roomId.indexOf('#') >= 0 || roomId.indexOf('/') >= 0) {
+			return null;
+		}
+		return roomId;
+	}
+}
@@ -0,0 +1,12 @@
+package com.example.demo;
+
+/**
+ * 채팅방(/topic/room/{roomId}) 구독자 전체에게 메시지를 보내는 경로
+ * chat.broker.mode 에 따라 구현이 바뀜
+ * - relay, simple : StompChatBroadcaster (STOMP 브로커 릴레이 또는 내장 브로커)
+ * - amqp         : AmqpChatBroadcaster  (RabbitMQ 토픽 익스체인지 -> 각 노드의 내장 브로커)
+ */
+public interface ChatBroadcaster {
+
+	void broadcast(String roomId, ChatMessage chatMessage);
+}
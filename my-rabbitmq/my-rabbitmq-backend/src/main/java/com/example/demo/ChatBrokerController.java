@@ -0,0 +1,25 @@
+package com.example.demo;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 채팅 브로커 모드 조회 (chat.broker.mode)
+ * - GET /api/chat/broker : { "mode": "relay" | "simple" | "amqp" }
+ * 화면(index.html)이 history 구독 뒤 입장 메시지를 언제 보낼지 정할 때 사용
+ * (RECEIPT는 relay 모드의 RabbitMQ만 보내고, 내장 브로커는 보내지 않음)
+ */
+@RestController
+public class ChatBrokerController {
+
+	@Value("${chat.broker.mode}")
+	private String brokerMode;
+
+	@GetMapping("/api/chat/broker")
+	public Map<String, String> broker() {
+		return Map.of("mode", brokerMode);
+	}
+}
@@ -1,33 +1,54 @@
 package com.example.demo;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import lombok.extern.slf4j.Slf4j;
+
 @Controller
+@Slf4j
 public class ChatController {
 	@Autowired
     private SimpMessageSendingOperations messagingTemplate;
 	
+	@Autowired
+	private ChatHistoryStore chatHistoryStore; // 방별 최근 메시지 (입장 시 다시 보여주기 위함)
+	
+	@Autowired
+	private ChatBroadcaster chatBroadcaster; // 방 구독자 전체에게 보내는 경로 (chat.broker.mode)
+	
+	@Autowired
+	private RoomPresenceRegistry roomPresenceRegistry; // 방별 접속자 (입장/방 이동/연결 종료 시 갱신)
+	
+	@Autowired(required = false)
+	private ChatLog chatLog; // 노드별 영구 기록 (chat.log.enabled=true 일 때만 존재)
+	
 	/*
 	 * 클라이언트가 /app/chat.sendMessage/{roomId} 로 메시지를 보내면 이 메소드가 처리
-	 * /topic/room/{roomId} 구독자들에게 메세지를 브로드캐스트
+	 * /topic/room/{roomId} 구독자들에게 메세지를 브로드캐스트 (ChatBroadcaster)
 	*/
 	@MessageMapping("/chat.sendMessage/{roomId}")
 	public void sendMessage(@DestinationVariable String roomId, @Payload ChatMessage chatMessage) {
 		
 		chatMessage.setRoomId(roomId);
 		
-		messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+		appendHistory(roomId, chatMessage);
+		chatBroadcaster.broadcast(roomId, chatMessage);
 	}
 	
 	/*
 	 * 클라이언트가 /app/chat.addUser로 접속 알림을 보낼 때 처리
+	 * 입장한 사용자(세션)에게만 방의 최근 메시지를 먼저 보내고, 입장 메시지를 브로드캐스트
 	*/
 	@MessageMapping("/chat.addUser/{roomId}") 
 	public void addUser(@DestinationVariable String roomId, @Payload ChatMessage chatMessage, SimpMessageHeaderAccessor headerAccessor) {
@@ -37,6 +58,57 @@ public class ChatController {
 		
 		chatMessage.setRoomId(roomId);
 		
-		messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+		// 같은 연결로 다른 방에 들어오면 (방 이동) 이전 방에는 퇴장 메시지
+		String sessionId = headerAccessor.getSessionId();
+		RoomPresenceRegistry.Membership previous = roomPresenceRegistry.join(sessionId, chatMessage.getSender(), roomId);
+		if (previous != null) {
+			ChatMessage leaveMessage = new ChatMessage();
+			leaveMessage.setType(ChatMessage.MessageType.LEAVE);
+			leaveMessage.setSender(previous.username());
+			leaveMessage.setRoomId(previous.roomId());
+			appendHistory(previous.roomId(), leaveMessage);
+			chatBroadcaster.broadcast(previous.roomId(), leaveMessage);
+		}
+		
+		// 입장 전 대화 기록 -> 이 세션에게만 (/user/topic/history 구독)
+		// 로그인(Principal)이 없으므로 세션 ID를 사용자 이름 대신 사용
+		List<ChatMessage> history = chatHistoryStore.recent(roomId);
+		if (!history.isEmpty()) {
+			messagingTemplate.convertAndSendToUser(sessionId, "/topic/history", history, sessionHeaders(sessionId));
+		}
+		
+		appendHistory(roomId, chatMessage);
+		chatBroadcaster.broadcast(roomId, chatMessage);
+	}
+	
+	/*
+	 * 클라이언트가 /app/rooms/{roomId}/presence 를 구독하면 현재 접속자 수와 목록을 한 번 응답
+	 * (브로커를 거치지 않고 구독한 세션에게만 바로 전달)
+	*/
+	@SubscribeMapping("/rooms/{roomId}/presence")
+	public RoomPresenceRegistry.RoomPresence presence(@DestinationVariable String roomId) {
+		return roomPresenceRegistry.presence(roomId, RoomPresenceController.DEFAULT_MEMBER_LIMIT);
+	}
+	
+	/*
+	 * 방 기록에 메시지 추가 : 메모리 링 버퍼(락 없음) + 채팅 로그(사용 시)
+	 * 로그 기록은 쓰기 스레드에 넘기기만 하고 기다리지 않음 (fsync가 브로드캐스트를 늦추지 않도록)
+	*/
+	private void appendHistory(String roomId, ChatMessage chatMessage) {
+		chatHistoryStore.append(roomId, chatMessage);
+		if (chatLog != null) {
+			chatLog.append(roomId, chatMessage).exceptionally(e -> {
+				log.warn("채팅 로그 기록 실패 : 방 ID {}", roomId, e);
+				return null;
+			});
+		}
+	}
+	
+	// 세션 ID로 사용자 목적지(/user/{sessionId}/...)를 찾을 수 있도록 세션 ID 헤더를 담은 메시지 헤더
+	private static MessageHeaders sessionHeaders(String sessionId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
 	}
 }
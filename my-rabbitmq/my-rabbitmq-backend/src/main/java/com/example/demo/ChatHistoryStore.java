@@ -0,0 +1,149 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방별 최근 메시지 N개를 메모리에 보관하는 링 버퍼
+ * - 새로 입장한 사용자에게 직전 대화를 보여주기 위해 사용 (DB에 저장/재조회하지 않음)
+ * - 메시지 추가는 락 없이 시퀀스 증가(getAndIncrement) + 마지막 활동 시각 CAS + 배열 칸 쓰기 1번
+ *   (sendMessage 경로에 추가되는 비용이 거의 없음)
+ * - 일정 시간 메시지가 없는 방은 주기적으로 정리
+ *   : 방을 '닫힘'으로 바꾼 뒤에만 제거하고, 닫힌 방에 쓰려던 메시지는 새 방에 다시 씀 (정리와 겹친 메시지가 사라지지 않음)
+ */
+@Component
+@Slf4j
+public class ChatHistoryStore {
+
+	private final ConcurrentHashMap<String, RoomHistory> rooms = new ConcurrentHashMap<>();
+	private final int capacity;
+	private final long idleMillis;
+
+	public ChatHistoryStore(@Value("${chat.history.size}") int capacity,
+			@Value("${chat.history.idle-minutes}") long idleMinutes) {
+		this.capacity = capacity;
+		this.idleMillis = idleMinutes * 60_000;
+	}
+
+	// 방에 메시지 추가 (가장 오래된 메시지를 덮어씀)
+	public void append(String roomId, ChatMessage message) {
+		while (true) {
+			RoomHistory room = rooms.get(roomId);
+			if (room == null) {
+				room = rooms.computeIfAbsent(roomId, id -> new RoomHistory(capacity));
+			}
+			if (room.append(message)) {
+				return;
+			}
+			// 꺼낸 뒤에 정리되어 닫힌 방 (맵에서는 이미 제거됨) -> 새 방으로 다시 시도
+		}
+	}
+
+	// 방의 최근 메시지 (오래된 것부터)
+	public List<ChatMessage> recent(String roomId) {
+		RoomHistory room = rooms.get(roomId);
+		return room != null ? room.snapshot() : List.of();
+	}
+
+	// 오랫동안 메시지가 없는 방의 버퍼 제거
+	@Scheduled(fixedDelayString = "${chat.history.sweep-interval-ms}")
+	public void evictIdleRooms() {
+		int evicted = evictIdleRooms(System.currentTimeMillis() - idleMillis);
+		if (evicted > 0) {
+			log.debug("채팅 기록 정리 : 비활성 방 {}개 제거", evicted);
+		}
+	}
+
+	// threshold 이전부터 메시지가 없는 방 제거 (방 단위로 compute 안에서 다시 확인하고 닫음)
+	int evictIdleRooms(long threshold) {
+		int evicted = 0;
+		for (String roomId : rooms.keySet()) {
+			boolean[] closed = new boolean[1];
+			rooms.computeIfPresent(roomId, (id, room) -> {
+				closed[0] = room.closeIfIdleSince(threshold);
+				return closed[0] ? null : room;
+			});
+			if (closed[0]) {
+				evicted++;
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * 방 1개의 링 버퍼
+	 * 칸마다 (시퀀스 번호, 메시지)를 함께 저장해서, 읽는 도중 다른 스레드가 덮어쓴 칸은 건너뜀
+	 * 칸에는 더 큰 시퀀스만 씀 -> 늦게 도착한 이전 메시지가 새 메시지를 덮어쓰지 않음
+	 */
+	static final class RoomHistory {
+
+		private static final long CLOSED = -1;
+
+		private record Entry(long sequence, ChatMessage message) {
+		}
+
+		private final AtomicReferenceArray<Entry> slots;
+		private final AtomicLong nextSequence = new AtomicLong();
+		private final AtomicLong lastActivity = new AtomicLong(System.currentTimeMillis()); // 정리되어 닫히면 CLOSED
+
+		RoomHistory(int capacity) {
+			this.slots = new AtomicReferenceArray<>(capacity);
+		}
+
+		// 닫힌 방이면 false (메시지를 쓰지 않음)
+		boolean append(ChatMessage message) {
+			if (!touch()) {
+				return false;
+			}
+			long sequence = nextSequence.getAndIncrement();
+			Entry entry = new Entry(sequence, message);
+			slots.accumulateAndGet((int) (sequence % slots.length()), entry,
+					(current, update) -> current == null || current.sequence() < update.sequence() ? update : current);
+			return true;
+		}
+
+		// 마지막 활동 시각을 지금으로 갱신 (닫힌 방이면 false)
+		// 갱신에 성공하면 정리 쪽의 CAS(이전 시각 -> CLOSED)가 실패하므로, 쓰는 중인 방은 닫히지 않음
+		private boolean touch() {
+			long now = System.currentTimeMillis();
+			while (true) {
+				long last = lastActivity.get();
+				if (last == CLOSED) {
+					return false;
+				}
+				if (last >= now || lastActivity.compareAndSet(last, now)) {
+					return true;
+				}
+			}
+		}
+
+		// threshold 이전부터 활동이 없으면 닫음 (닫은 뒤에는 append가 이 방에 쓰지 않음)
+		boolean closeIfIdleSince(long threshold) {
+			long last = lastActivity.get();
+			return last != CLOSED && last < threshold && lastActivity.compareAndSet(last, CLOSED);
+		}
+
+		List<ChatMessage> snapshot() {
+			long end = nextSequence.get();
+			long start = Math.max(0, end - slots.length());
+			List<ChatMessage> messages = new ArrayList<>((int) (end - start));
+			for (long sequence = start; sequence < end; sequence++) {
+				Entry entry = slots.get((int) (sequence % slots.length()));
+				// 아직 쓰는 중(null)이거나 그 사이 새 메시지로 덮어쓴 칸은 제외
+				if (entry != null && entry.sequence() == sequence) {
+					messages.add(entry.message());
+				}
+			}
+			return messages;
+		}
+	}
+}
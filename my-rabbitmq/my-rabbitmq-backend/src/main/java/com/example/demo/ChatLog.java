@@ -0,0 +1,553 @@
+package com.example.demo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드별 채팅 메시지 영구 기록 (append-only 로그, chat.log.enabled=true 일 때만 사용)
+ * RabbitMQ는 전달이 끝난 메시지를 남기지 않으므로, 이 노드가 처리한 메시지를 파일에 이어서 씀
+ *
+ * - 쓰기 : 전용 스레드 1개가 큐에 모인 메시지를 한 번에 기록하고 fsync도 배치당 1번 (그룹 커밋)
+ * - 세그먼트 : 파일 크기(chat.log.segment-bytes)가 차면 새 파일로 넘어감, 파일 이름 = 시작 오프셋
+ *   (활성 세그먼트는 미리 크기를 잡아서 mmap 하므로 쓰는 동안 파일 크기/메타데이터가 바뀌지 않음,
+ *    닫은 뒤에도 잘라내지 않고 유효한 끝 위치는 .index 파일에 기록)
+ * - 오프셋 : 로그 전체에서의 바이트 위치 (세그먼트 시작 오프셋 + 파일 안 위치)
+ * - 읽기 : 모든 세그먼트를 mmap 해 두고 오프셋 위치를 바로 읽음 (read 시스템 콜, 복사 버퍼 없음)
+ * - 레코드마다 '같은 방의 이전 레코드 오프셋'을 저장 -> 방의 기록을 뒤로 넘길 때 다른 방 메시지를 건너뛰지 않고
+ *   페이지 크기만큼만 읽음 (방/로그 전체 크기와 무관하게 페이지당 비용 일정)
+ * - 희소 색인 : 세그먼트를 닫을 때 끝 위치 + (방 ID, 그 세그먼트에서의 마지막 오프셋)만 .index 파일로 남김
+ *   -> 재시작 시 모든 레코드를 다시 읽지 않고 색인 파일만 읽어서 방별 마지막 위치를 복원
+ *
+ * 레코드 형식 (빅 엔디언)
+ *   int 전체 길이 | int CRC32 (8번째 바이트부터 끝까지) | long 같은 방의 이전 오프셋(-1 = 처음)
+ *   | short 방 ID 길이 | 방 ID (UTF-8) | ChatMessage JSON
+ */
+@Component
+@ConditionalOnProperty(name = "chat.log.enabled", havingValue = "true")
+@Slf4j
+public class ChatLog implements AutoCloseable {
+
+	/**
+	 * fsync 시점
+	 * ALWAYS   : 배치를 쓸 때마다 (append가 완료되면 디스크에 있음, 배치가 클수록 메시지당 비용이 작아짐)
+	 * INTERVAL : 마지막 fsync 후 fsync-interval-ms 가 지났을 때 (장애 시 그 시간만큼 유실 가능)
+	 * NEVER    : OS 페이지 캐시에 맡김 (프로세스 종료에는 안전, 전원/커널 장애 시 유실 가능)
+	 */
+	public enum FsyncPolicy {
+		ALWAYS, INTERVAL, NEVER
+	}
+
+	// 방 기록 한 페이지 (오래된 것부터), nextCursor : 다음(더 오래된) 페이지의 시작 오프셋, 없으면 -1
+	public record HistoryPage(List<LoggedMessage> messages, long nextCursor, boolean hasNext) {
+	}
+
+	public record LoggedMessage(long offset, ChatMessage message) {
+	}
+
+	private record PendingAppend(String roomId, byte[] room, byte[] payload, CompletableFuture<Long> future) {
+	}
+
+	private static final class Segment {
+		private final long baseOffset;
+		private final MappedByteBuffer buffer;
+		private volatile int size; // 읽어도 되는(기록이 끝난) 바이트 수
+
+		private Segment(long baseOffset, MappedByteBuffer buffer, int size) {
+			this.baseOffset = baseOffset;
+			this.buffer = buffer;
+			this.size = size;
+		}
+	}
+
+	private static final int HEADER = 18; // 길이 4 + CRC 4 + 이전 오프셋 8 + 방 ID 길이 2
+	private static final int MAX_ROOM_BYTES = 0xFFFF;
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String INDEX_SUFFIX = ".index";
+	private static final PendingAppend SHUTDOWN = new PendingAppend(null, null, null, null);
+
+	private final Path dir;
+	private final int segmentBytes;
+	private final FsyncPolicy fsyncPolicy;
+	private final long fsyncIntervalNanos;
+	private final int batchMax;
+	private final ObjectMapper objectMapper;
+
+	private final BlockingQueue<PendingAppend> queue;
+	private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+	private final ConcurrentHashMap<String, Long> roomTails = new ConcurrentHashMap<>(); // 방별 마지막 (읽을 수 있는) 오프셋
+	private final Thread writer;
+	private volatile boolean closed;
+
+	// 여기부터는 쓰기 스레드만 사용
+	private Segment active;
+	private FileChannel activeChannel;
+	private boolean activeSealed; // 닫기(색인 쓰기)까지 끝났지만 새 세그먼트를 열지 못한 상태 -> 더 쓰지 않고 전환부터 다시 시도
+	private int writePosition;
+	private int forcedPosition;
+	private long lastForceNanos = System.nanoTime();
+	private final Map<String, Long> activeTails = new HashMap<>(); // 활성 세그먼트의 희소 색인 (닫을 때 파일로 씀)
+
+	public ChatLog(@Value("${chat.log.dir}") String dir,
+			@Value("${chat.log.segment-bytes}") int segmentBytes,
+			@Value("${chat.log.fsync}") FsyncPolicy fsyncPolicy,
+			@Value("${chat.log.fsync-interval-ms}") long fsyncIntervalMs,
+			@Value("${chat.log.batch-max}") int batchMax,
+			@Value("${chat.log.queue-capacity}") int queueCapacity,
+			ObjectMapper objectMapper) {
+		this.dir = Path.of(dir);
+		this.segmentBytes = segmentBytes;
+		this.fsyncPolicy = fsyncPolicy;
+		this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMs);
+		this.batchMax = batchMax;
+		this.objectMapper = objectMapper;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+		try {
+			long nextOffset = recover();
+			openActive(nextOffset);
+		} catch (IOException e) {
+			throw new UncheckedIOException("채팅 로그를 열 수 없음 : " + this.dir, e);
+		}
+		log.info("채팅 로그 : {} (세그먼트 {}개, 방 {}개, fsync {})", this.dir, segments.size(), roomTails.size(), fsyncPolicy);
+
+		this.writer = new Thread(this::runWriter, "chat-log-writer");
+		this.writer.start();
+	}
+
+	/**
+	 * 메시지를 로그 끝에 추가 (호출한 스레드는 JSON 변환만 하고 바로 반환)
+	 * @return 기록된 오프셋 (ALWAYS 정책이면 fsync까지 끝난 뒤 완료)
+	 */
+	public CompletableFuture<Long> append(String roomId, ChatMessage message) {
+		if (closed) {
+			return CompletableFuture.failedFuture(new IllegalStateException("chat log is closed"));
+		}
+		byte[] payload;
+		try {
+			payload = objectMapper.writeValueAsBytes(message);
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		byte[] room = roomId.getBytes(StandardCharsets.UTF_8);
+		if (room.length > MAX_ROOM_BYTES || HEADER + room.length + payload.length > segmentBytes) {
+			return CompletableFuture.failedFuture(new IllegalArgumentException("chat message does not fit in a log segment"));
+		}
+		PendingAppend pending = new PendingAppend(roomId, room, payload, new CompletableFuture<>());
+		if (!queue.offer(pending)) {
+			return CompletableFuture.failedFuture(new IllegalStateException("chat log queue is full"));
+		}
+		return pending.future();
+	}
+
+	/**
+	 * 방의 기록을 최신 -> 과거 방향으로 한 페이지씩 조회
+	 * 레코드의 '이전 오프셋'을 따라가므로 페이지당 limit 개의 레코드만 읽음
+	 * @param cursor null이면 가장 최근부터, 아니면 이전 페이지의 nextCursor
+	 * @throws IllegalArgumentException cursor가 이 방의 레코드를 가리키지 않을 때
+	 */
+	public HistoryPage history(String roomId, Long cursor, int limit) {
+		long offset = cursor != null ? cursor : roomTails.getOrDefault(roomId, -1L);
+		List<LoggedMessage> messages = new ArrayList<>(limit);
+		while (offset >= 0 && messages.size() < limit) {
+			Segment segment = segmentOf(offset);
+			int position = segment != null ? (int) (offset - segment.baseOffset) : -1;
+			if (segment == null || !isValidRecord(segment.buffer, position, segment.size)
+					|| !roomId.equals(roomAt(segment.buffer, position))) {
+				if (messages.isEmpty() && cursor != null) {
+					throw new IllegalArgumentException("invalid cursor : " + cursor);
+				}
+				log.warn("채팅 로그 : 방 {} 의 이전 레코드({})를 읽을 수 없어 조회를 멈춤", roomId, offset);
+				offset = -1;
+				break;
+			}
+			messages.add(new LoggedMessage(offset, messageAt(segment.buffer, position)));
+			offset = segment.buffer.getLong(position + 8);
+		}
+		Collections.reverse(messages);
+		return new HistoryPage(messages, offset, offset >= 0);
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			queue.put(SHUTDOWN);
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// ----- 쓰기 스레드 -----
+
+	private void runWriter() {
+		List<PendingAppend> batch = new ArrayList<>(batchMax);
+		long pollNanos = fsyncPolicy == FsyncPolicy.INTERVAL ? fsyncIntervalNanos : TimeUnit.SECONDS.toNanos(1);
+		boolean stopping = false;
+		while (!stopping) {
+			PendingAppend first;
+			try {
+				// 쓰기 스레드를 interrupt 하면 FileChannel이 닫히므로, 종료는 SHUTDOWN 표시로만 알림
+				first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				break;
+			}
+			if (first == null) {
+				try {
+					forceIfDue(); // 쌓인 메시지가 없어도 INTERVAL 정책의 fsync는 제때
+				} catch (RuntimeException e) {
+					log.error("채팅 로그 : fsync 실패", e);
+				}
+				continue;
+			}
+			batch.add(first);
+			queue.drainTo(batch, batchMax - 1);
+			stopping = batch.removeIf(pending -> pending == SHUTDOWN);
+			if (!batch.isEmpty()) {
+				writeBatch(batch);
+			}
+			batch.clear();
+		}
+
+		try {
+			if (!activeSealed) {
+				sealActive();
+			}
+		} catch (IOException e) {
+			log.error("채팅 로그 : 종료 중 마지막 세그먼트 정리 실패", e);
+		}
+		List<PendingAppend> rejected = new ArrayList<>();
+		queue.drainTo(rejected);
+		rejected.stream().filter(pending -> pending != SHUTDOWN)
+				.forEach(pending -> pending.future().completeExceptionally(new IllegalStateException("chat log is closed")));
+	}
+
+	/**
+	 * 배치 기록 : 레코드를 이어서 쓰고, 끝나면 fsync(정책에 따라) -> 공개 -> 완료 순서로 처리
+	 * 중간에 세그먼트가 차면 그때까지 쓴 레코드를 먼저 공개/완료한 뒤 다음 세그먼트로 넘어감
+	 * 실패하면 writePosition을 마지막 공개 위치로 되돌림 -> 실패한 레코드 자리는 다음 배치가 덮어쓰고,
+	 * 세그먼트 전환이 실패했다면 다음 배치에서 다시 시도
+	 */
+	private void writeBatch(List<PendingAppend> batch) {
+		Map<String, Long> pendingTails = new HashMap<>();
+		long[] offsets = new long[batch.size()];
+		int committed = 0; // 이 번호 앞의 메시지는 공개/완료됨
+		int committedPosition = writePosition;
+		try {
+			for (int i = 0; i < batch.size(); i++) {
+				PendingAppend pending = batch.get(i);
+				int length = HEADER + pending.room().length + pending.payload().length;
+				if (activeSealed || writePosition + length > segmentBytes) {
+					commit(batch, committed, i, offsets, pendingTails);
+					committed = i;
+					committedPosition = writePosition;
+					roll();
+					committedPosition = writePosition;
+				}
+				Long previous = pendingTails.get(pending.roomId());
+				if (previous == null) {
+					previous = roomTails.getOrDefault(pending.roomId(), -1L);
+				}
+				writeRecord(active.buffer, writePosition, length, previous, pending.room(), pending.payload());
+
+				offsets[i] = active.baseOffset + writePosition;
+				writePosition += length;
+				pendingTails.put(pending.roomId(), offsets[i]);
+			}
+			commit(batch, committed, batch.size(), offsets, pendingTails);
+		} catch (IOException | RuntimeException e) {
+			log.error("채팅 로그 : 메시지 {}개 기록 실패", batch.size() - committed, e);
+			writePosition = committedPosition;
+			forcedPosition = Math.min(forcedPosition, writePosition);
+			for (int i = committed; i < batch.size(); i++) {
+				batch.get(i).future().completeExceptionally(e);
+			}
+		}
+	}
+
+	// batch[from, to) 공개 : fsync(정책에 따라) -> 크기 -> 방별 마지막 위치 순서 (조회 스레드는 공개된 레코드만 따라감)
+	private void commit(List<PendingAppend> batch, int from, int to, long[] offsets, Map<String, Long> pendingTails) {
+		if (from == to) {
+			return;
+		}
+		forceIfDue();
+		active.size = writePosition;
+		activeTails.putAll(pendingTails);
+		roomTails.putAll(pendingTails);
+		pendingTails.clear();
+		for (int i = from; i < to; i++) {
+			batch.get(i).future().complete(offsets[i]);
+		}
+	}
+
+	private void forceIfDue() {
+		if (forcedPosition == writePosition) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (fsyncPolicy == FsyncPolicy.ALWAYS
+				|| (fsyncPolicy == FsyncPolicy.INTERVAL && now - lastForceNanos >= fsyncIntervalNanos)) {
+			// 새로 쓴 구간만 디스크로 (파일 크기는 그대로라 메타데이터 갱신 없음)
+			active.buffer.force(forcedPosition, writePosition - forcedPosition);
+			forcedPosition = writePosition;
+			lastForceNanos = now;
+		}
+	}
+
+	// 활성 세그먼트를 닫고 현재 끝 오프셋에서 새 세그먼트 시작 (실패해도 다음 배치에서 처음부터 다시 시도할 수 있음)
+	private void roll() throws IOException {
+		long nextOffset = active.baseOffset + writePosition;
+		if (!activeSealed) {
+			sealActive();
+		}
+		openActive(nextOffset);
+	}
+
+	/**
+	 * 활성 세그먼트 닫기 : fsync -> 희소 색인 파일(유효한 끝 위치 포함) 쓰기
+	 * 파일은 미리 잡아 둔 크기 그대로 둠 (매핑이 살아 있는 파일은 Windows에서 잘라낼 수 없고,
+	 * Java 17에는 매핑을 바로 해제하는 공개 API가 없음) -> 읽을 범위는 색인의 끝 위치로 제한
+	 * 색인 파일이 있으면 '정상적으로 닫힌 세그먼트'라는 뜻, 재시작 시 레코드를 다시 읽지 않음
+	 */
+	private void sealActive() throws IOException {
+		active.buffer.force(0, writePosition);
+		forcedPosition = writePosition;
+		active.size = writePosition;
+		activeChannel.close(); // 매핑은 채널을 닫아도 유지되므로 봉인된 세그먼트 읽기에 그대로 사용 (두 번 닫아도 됨)
+		writeIndex(active.baseOffset, writePosition, activeTails);
+		activeSealed = true;
+	}
+
+	private void openActive(long baseOffset) throws IOException {
+		Files.deleteIfExists(indexPath(baseOffset)); // 비어 있던 세그먼트를 다시 쓰는 경우 이전 색인 제거
+		FileChannel channel = FileChannel.open(segmentPath(baseOffset), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		Segment segment;
+		try {
+			segment = new Segment(baseOffset, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes), 0);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		activeChannel = channel;
+		active = segment;
+		segments.put(baseOffset, segment);
+		activeSealed = false;
+		writePosition = 0;
+		forcedPosition = 0;
+		activeTails.clear();
+	}
+
+	private static void writeRecord(MappedByteBuffer buffer, int position, int length, long previous, byte[] room,
+			byte[] payload) {
+		buffer.putLong(position + 8, previous);
+		buffer.putShort(position + 16, (short) room.length);
+		buffer.put(position + HEADER, room);
+		buffer.put(position + HEADER + room.length, payload);
+		buffer.putInt(position + 4, crc(buffer, position, length));
+		buffer.putInt(position, length);
+	}
+
+	// ----- 재시작 복구 -----
+
+	/**
+	 * 기존 세그먼트를 모두 읽기 전용으로 열고 방별 마지막 오프셋을 복원
+	 * 색인 파일이 있는 세그먼트는 색인만 읽고, 없는 세그먼트(비정상 종료)는 레코드를 처음부터 검사해서
+	 * CRC가 맞는 레코드가 끝나는 위치를 끝으로 하는 색인을 새로 씀 (쓰다 만 꼬리는 파일에 남지만 읽지 않음)
+	 * 검사는 매핑 없이 채널로 읽으므로, 비어 있는 세그먼트는 바로 지울 수 있음
+	 * @return 새 활성 세그먼트의 시작 오프셋
+	 */
+	private long recover() throws IOException {
+		Files.createDirectories(dir);
+		List<Long> baseOffsets;
+		try (Stream<Path> files = Files.list(dir)) {
+			baseOffsets = files.map(path -> path.getFileName().toString())
+					.filter(name -> name.endsWith(SEGMENT_SUFFIX))
+					.map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+					.sorted()
+					.toList();
+		}
+
+		long nextOffset = 0;
+		for (long baseOffset : baseOffsets) {
+			Path path = segmentPath(baseOffset);
+			Path index = indexPath(baseOffset);
+			if (!Files.exists(index)) {
+				Map<String, Long> tails = new HashMap<>();
+				int end;
+				try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+					end = scan(channel, baseOffset, tails);
+				}
+				log.warn("채팅 로그 : 색인 없는 세그먼트 {} 복구 (유효한 레코드 {} 바이트)", path.getFileName(), end);
+				writeIndex(baseOffset, end, tails);
+			}
+			int size = readIndex(index);
+			if (size == 0) {
+				Files.delete(path);
+				Files.delete(index);
+				continue;
+			}
+
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				segments.put(baseOffset, new Segment(baseOffset, channel.map(FileChannel.MapMode.READ_ONLY, 0, size), size));
+				nextOffset = baseOffset + size;
+			}
+		}
+		return nextOffset;
+	}
+
+	// 처음부터 올바른 레코드가 이어지는 곳까지 읽고, 그 끝 위치를 반환
+	private static int scan(FileChannel channel, long baseOffset, Map<String, Long> tails) throws IOException {
+		long limit = channel.size();
+		ByteBuffer header = ByteBuffer.allocate(HEADER);
+		int position = 0;
+		while (position + HEADER <= limit) {
+			readFully(channel, header.clear(), position);
+			int length = header.getInt(0);
+			if (length < HEADER || length > limit - position) {
+				break;
+			}
+			ByteBuffer record = ByteBuffer.allocate(length);
+			readFully(channel, record, position);
+			if (!isValidRecord(record, 0, length)) {
+				break;
+			}
+			tails.put(roomAt(record, 0), baseOffset + position);
+			position += length;
+		}
+		return position;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("unexpected end of segment");
+			}
+		}
+	}
+
+	// 색인 파일 : int 유효한 끝 위치 | int 방 수 | (UTF 방 ID, long 마지막 오프셋) x 방 수
+	private void writeIndex(long baseOffset, int size, Map<String, Long> tails) throws IOException {
+		Path tmp = dir.resolve(fileName(baseOffset) + INDEX_SUFFIX + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+				DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+			out.writeInt(size);
+			out.writeInt(tails.size());
+			for (Map.Entry<String, Long> entry : tails.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue());
+			}
+			out.flush();
+			channel.force(true);
+		}
+		// 다 쓴 뒤에 이름을 바꿔서, 색인 파일은 항상 완전한 상태로만 보이게 함
+		Files.move(tmp, indexPath(baseOffset), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	// 세그먼트 순서대로 읽으므로 나중 세그먼트의 오프셋이 앞의 값을 덮어씀
+	// @return 세그먼트의 유효한 끝 위치
+	private int readIndex(Path index) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+			int size = in.readInt();
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				roomTails.put(in.readUTF(), in.readLong());
+			}
+			return size;
+		}
+	}
+
+	// ----- 레코드 읽기 -----
+
+	private Segment segmentOf(long offset) {
+		Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+		return entry != null ? entry.getValue() : null;
+	}
+
+	private static boolean isValidRecord(ByteBuffer buffer, int position, int limit) {
+		if (position < 0 || position + HEADER > limit) {
+			return false;
+		}
+		int length = buffer.getInt(position);
+		if (length < HEADER || length > limit - position) {
+			return false;
+		}
+		int roomLength = Short.toUnsignedInt(buffer.getShort(position + 16));
+		return HEADER + roomLength <= length && buffer.getInt(position + 4) == crc(buffer, position, length);
+	}
+
+	private static int crc(ByteBuffer buffer, int position, int length) {
+		CRC32 crc = new CRC32();
+		crc.update(buffer.slice(position + 8, length - 8)); // slice는 새 버퍼라 여러 스레드가 동시에 읽어도 안전
+		return (int) crc.getValue();
+	}
+
+	private static String roomAt(ByteBuffer buffer, int position) {
+		byte[] room = new byte[Short.toUnsignedInt(buffer.getShort(position + 16))];
+		buffer.get(position + HEADER, room);
+		return new String(room, StandardCharsets.UTF_8);
+	}
+
+	private ChatMessage messageAt(MappedByteBuffer buffer, int position) {
+		int payloadStart = HEADER + Short.toUnsignedInt(buffer.getShort(position + 16));
+		byte[] payload = new byte[buffer.getInt(position) - payloadStart];
+		buffer.get(position + payloadStart, payload);
+		try {
+			return objectMapper.readValue(payload, ChatMessage.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Path segmentPath(long baseOffset) {
+		return dir.resolve(fileName(baseOffset) + SEGMENT_SUFFIX);
+	}
+
+	private Path indexPath(long baseOffset) {
+		return dir.resolve(fileName(baseOffset) + INDEX_SUFFIX);
+	}
+
+	// 파일 이름 = 시작 오프셋 (0으로 채운 20자리, 이름순 = 오프셋순)
+	private static String fileName(long baseOffset) {
+		return String.format("%020d", baseOffset);
+	}
+}
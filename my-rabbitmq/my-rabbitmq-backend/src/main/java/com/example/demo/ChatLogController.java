@@ -0,0 +1,41 @@
+package com.example.demo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 채팅 로그(ChatLog)에 남은 방 기록 조회 (chat.log.enabled=true 일 때만)
+ * GET /api/chat/rooms/{roomId}/messages?cursor=&size=
+ * - cursor 없이 호출하면 가장 최근 페이지, 응답의 nextCursor로 더 오래된 페이지를 이어서 조회
+ */
+@RestController
+@RequestMapping("/api/chat/rooms")
+@ConditionalOnProperty(name = "chat.log.enabled", havingValue = "true")
+public class ChatLogController {
+
+	private static final int MAX_PAGE_SIZE = 200;
+
+	@Autowired
+	private ChatLog chatLog;
+
+	@GetMapping("/{roomId}/messages")
+	public ChatLog.HistoryPage history(@PathVariable String roomId,
+			@RequestParam(required = false) Long cursor,
+			@RequestParam(defaultValue = "50") int size) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+		}
+		try {
+			return chatLog.history(roomId, cursor, size);
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 cursor 입니다.");
+		}
+	}
+}
@@ -2,8 +2,10 @@ package com.example.demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // 비활성 채팅방 기록 정리(ChatHistoryStore) 등 @Scheduled 작업 활성화
 public class MyRabbitmqBackendApplication {
 
 	public static void main(String[] args) {
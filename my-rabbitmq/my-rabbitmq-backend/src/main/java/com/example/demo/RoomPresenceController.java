@@ -0,0 +1,48 @@
+package com.example.demo;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 채팅방 접속자 조회 (RoomPresenceRegistry)
+ * - GET /api/chat/rooms/presence                 : 접속자가 있는 방별 접속자 수
+ * - GET /api/chat/rooms/{roomId}/presence/count  : 접속자 수만 (O(1))
+ * - GET /api/chat/rooms/{roomId}/presence?limit= : 접속자 수 + 이름 목록 (limit명까지)
+ */
+@RestController
+@RequestMapping("/api/chat/rooms")
+public class RoomPresenceController {
+
+	static final int DEFAULT_MEMBER_LIMIT = 100;
+	private static final int MAX_MEMBER_LIMIT = 1000;
+
+	@Autowired
+	private RoomPresenceRegistry roomPresenceRegistry;
+
+	@GetMapping("/presence")
+	public Map<String, Integer> onlineCounts() {
+		return roomPresenceRegistry.onlineCounts();
+	}
+
+	@GetMapping("/{roomId}/presence/count")
+	public int onlineCount(@PathVariable String roomId) {
+		return roomPresenceRegistry.onlineCount(roomId);
+	}
+
+	@GetMapping("/{roomId}/presence")
+	public RoomPresenceRegistry.RoomPresence presence(@PathVariable String roomId,
+			@RequestParam(defaultValue = "" + DEFAULT_MEMBER_LIMIT) int limit) {
+		if (limit < 0 || limit > MAX_MEMBER_LIMIT) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit는 0~" + MAX_MEMBER_LIMIT + " 사이여야 합니다.");
+		}
+		return roomPresenceRegistry.presence(roomId, limit);
+	}
+}
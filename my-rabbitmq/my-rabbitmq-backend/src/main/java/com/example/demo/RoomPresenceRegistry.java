@@ -0,0 +1,111 @@
+package com.example.demo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 접속자(세션) 목록
+ * - 방 ID -> (세션 ID -> 사용자 이름), 세션 ID -> 현재 방 을 함께 관리
+ * - 한 방에 대한 변경은 ConcurrentHashMap.compute 안에서만 일어나므로 방(해시 칸) 단위로만 잠김
+ *   (전역 락 없음, 다른 방의 입장/퇴장과 서로 기다리지 않음)
+ * - 같은 세션의 입장/방 이동/연결 종료는 세션 ID 칸에서 순서대로 처리 (세션 -> 방 순서로만 잠그므로 교착 없음)
+ * - 접속자 수는 방마다 따로 세어 두므로 O(1), 빈 방은 마지막 세션이 나갈 때 바로 제거
+ */
+@Component
+public class RoomPresenceRegistry {
+
+	// 세션의 현재 위치
+	public record Membership(String roomId, String username) {
+	}
+
+	// 방의 접속자 수 + 사용자 이름 목록 (members는 최대 limit명)
+	public record RoomPresence(String roomId, int onlineCount, List<String> members) {
+	}
+
+	private static final class Room {
+		private final ConcurrentHashMap<String, String> members = new ConcurrentHashMap<>(4);
+		private volatile int onlineCount; // rooms.compute 안에서만 바뀜
+	}
+
+	private final ConcurrentHashMap<String, Room> rooms = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Membership> sessions = new ConcurrentHashMap<>();
+
+	/**
+	 * 세션을 방에 입장시킴 (다른 방에 있었다면 그 방에서 먼저 뺌)
+	 * @return 이전에 있던 방 (없거나 같은 방이면 null)
+	 */
+	public Membership join(String sessionId, String username, String roomId) {
+		Membership[] previous = new Membership[1];
+		sessions.compute(sessionId, (id, current) -> {
+			if (current != null && !current.roomId().equals(roomId)) {
+				removeMember(current.roomId(), sessionId);
+				previous[0] = current;
+			}
+			rooms.compute(roomId, (key, room) -> {
+				Room target = room != null ? room : new Room();
+				if (target.members.put(sessionId, username) == null) {
+					target.onlineCount++;
+				}
+				return target;
+			});
+			return new Membership(roomId, username);
+		});
+		return previous[0];
+	}
+
+	/**
+	 * 연결이 끊긴 세션을 방에서 뺌
+	 * @return 세션이 있던 방 (입장한 적 없으면 null)
+	 */
+	public Membership leave(String sessionId) {
+		Membership[] left = new Membership[1];
+		sessions.computeIfPresent(sessionId, (id, current) -> {
+			removeMember(current.roomId(), sessionId);
+			left[0] = current;
+			return null;
+		});
+		return left[0];
+	}
+
+	public int onlineCount(String roomId) {
+		Room room = rooms.get(roomId);
+		return room != null ? room.onlineCount : 0;
+	}
+
+	// 접속자 수 + 이름 목록 (목록은 limit명까지만 복사, 읽기는 잠그지 않음)
+	public RoomPresence presence(String roomId, int limit) {
+		Room room = rooms.get(roomId);
+		if (room == null) {
+			return new RoomPresence(roomId, 0, List.of());
+		}
+		List<String> members = new ArrayList<>(Math.min(limit, room.onlineCount));
+		for (String username : room.members.values()) {
+			if (members.size() >= limit) {
+				break;
+			}
+			members.add(username);
+		}
+		return new RoomPresence(roomId, room.onlineCount, members);
+	}
+
+	// 접속자가 있는 모든 방의 접속자 수
+	public Map<String, Integer> onlineCounts() {
+		Map<String, Integer> counts = new HashMap<>();
+		rooms.forEach((roomId, room) -> counts.put(roomId, room.onlineCount));
+		return counts;
+	}
+
+	private void removeMember(String roomId, String sessionId) {
+		rooms.computeIfPresent(roomId, (key, room) -> {
+			if (room.members.remove(sessionId) != null) {
+				room.onlineCount--;
+			}
+			return room.onlineCount == 0 ? null : room; // null을 반환하면 빈 방 제거
+		});
+	}
+}
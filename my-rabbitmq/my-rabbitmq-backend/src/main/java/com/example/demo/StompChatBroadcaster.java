@@ -0,0 +1,22 @@
+package com.example.demo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * relay, simple 모드 : /topic/room/{roomId} 로 보내면 STOMP 브로커 릴레이(RabbitMQ) 또는 내장 브로커가 전달
+ */
+@Component
+@ConditionalOnExpression("'${chat.broker.mode:relay}' != 'amqp'")
+public class StompChatBroadcaster implements ChatBroadcaster {
+
+	@Autowired
+	private SimpMessageSendingOperations messagingTemplate;
+
+	@Override
+	public void broadcast(String roomId, ChatMessage chatMessage) {
+		messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+	}
+}
@@ -1,27 +1,103 @@
 package com.example.demo;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	
+	// relay  : RabbitMQ STOMP 릴레이
+	// simple : 내장 브로커만 사용 (외부 브로커 없이 단일 노드로 실행/벤치마크)
+	// amqp   : 내장 브로커 + 노드 간에는 RabbitMQ 토픽 익스체인지 (AmqpChatConfig)
+	@Value("${chat.broker.mode}")
+	private String brokerMode;
+	
+	@Value("${chat.relay.host}")
+	private String relayHost;
+	
+	@Value("${chat.relay.port}")
+	private int relayPort;
+	
+	@Value("${chat.relay.login}")
+	private String relayLogin;
+	
+	@Value("${chat.relay.passcode}")
+	private String relayPasscode;
+	
+	@Value("${chat.dispatch.inbound-pool-size}")
+	private int inboundPoolSize;
+	
+	@Value("${chat.dispatch.outbound-pool-size}")
+	private int outboundPoolSize;
+	
+	@Value("${chat.dispatch.preserve-publish-order}")
+	private boolean preservePublishOrder;
+	
+	@Value("${chat.broker.cache-limit}")
+	private int cacheLimit;
+	
+	@Value("${chat.websocket.send-buffer-size-limit}")
+	private int sendBufferSizeLimit;
+	
+	@Value("${chat.websocket.send-time-limit-ms}")
+	private int sendTimeLimit;
+	
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry registry) {
-		// STOMP 메시지를 RabbitMQ 브로커로 라우팅(릴레이)
-		registry.enableStompBrokerRelay("/topic") // "topic"으로 시작하는 목적지
-				.setRelayHost("localhost")		  // RabbitMQ 호스트
-				.setRelayPort(61613) 			  // RabbitMQ STOMP 포트
-				.setClientLogin("guest")
-				.setClientPasscode("guest");
+		switch (brokerMode) {
+			case "relay" -> {
+				// STOMP 메시지를 RabbitMQ 브로커로 라우팅(릴레이)
+				registry.enableStompBrokerRelay("/topic") // "topic"으로 시작하는 목적지
+						.setRelayHost(relayHost)		  // RabbitMQ 호스트
+						.setRelayPort(relayPort) 		  // RabbitMQ STOMP 포트
+						.setClientLogin(relayLogin)
+						.setClientPasscode(relayPasscode);
+			}
+			case "simple", "amqp" -> {
+				// 노드 안의 구독자에게는 내장 브로커가 전달 (amqp 모드의 노드 간 전달은 AmqpChatBroadcaster가 담당)
+				// selector 헤더 검사를 끄고(구독마다 표현식 평가 생략), 목적지 -> 구독 캐시를 방 수보다 크게 잡음
+				registry.enableSimpleBroker("/topic")
+						.setSelectorHeaderName(null);
+				registry.setCacheLimit(cacheLimit);
+			}
+			default -> throw new IllegalStateException("chat.broker.mode는 relay, simple, amqp 중 하나여야 합니다 : " + brokerMode);
+		}
 		
 		// 클라이언트가 서버로 메시지를 보낼 때 사용할 접두사
 		registry.setApplicationDestinationPrefixes("/app");
-				
+		
+		// 켜면 세션마다 보낼 메시지를 순서대로 하나씩 보냄 (순서 보장 대신 처리량 감소)
+		registry.setPreservePublishOrder(preservePublishOrder);
+	}
+	
+	// 클라이언트 -> 서버 메시지 처리 스레드 (0이면 Spring 기본값 : CPU 코어 수 x 2)
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		if (inboundPoolSize > 0) {
+			registration.taskExecutor().corePoolSize(inboundPoolSize).maxPoolSize(inboundPoolSize);
+		}
+	}
+	
+	// 서버 -> 클라이언트 메시지 전송 스레드 (방 하나의 메시지가 구독자 수만큼 여기로 퍼짐)
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		if (outboundPoolSize > 0) {
+			registration.taskExecutor().corePoolSize(outboundPoolSize).maxPoolSize(outboundPoolSize);
+		}
+	}
+	
+	// 느린 클라이언트 : 보내기 버퍼가 이 크기를 넘거나 한 번 보내는 데 이 시간보다 오래 걸리면 연결을 끊음
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+				.setSendTimeLimit(sendTimeLimit);
 	}
 	
 	@Override
@@ -30,6 +106,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		// /ws 엔드포인트를 열고, 모든 도메인에서 접속 허용(CORS)
 		registry.addEndpoint("/ws").setAllowedOrigins("http://localhost:8080", "http://127.0.0.1:8080").withSockJS();
 		// withSockJS()는 WebSocket을 지원하지 않는 브라우저를 위한 대체 옵션
+		
+		// 한 세션에서 보낸 프레임을 보낸 순서대로 처리
+		// (history 구독(SUBSCRIBE)이 입장 메시지(addUser)보다 먼저 브로커에 전달되어야 기록을 받을 수 있음)
+		registry.setPreserveReceiveOrder(true);
 	}
 
 }
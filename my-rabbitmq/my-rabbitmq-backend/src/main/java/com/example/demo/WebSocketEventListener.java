@@ -2,8 +2,6 @@ package com.example.demo;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
-import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
@@ -13,9 +11,18 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebSocketEventListener {
 	
-	// 메세지를 /topic/general 토픽으로 전송(브로드캐스트)하기 위해 필요
+	// 메세지를 /topic/room/{roomId} 토픽으로 전송(브로드캐스트)하기 위해 필요
 	@Autowired
-	private SimpMessageSendingOperations messagingTemplate;
+	private ChatBroadcaster chatBroadcaster;
+	
+	@Autowired
+	private ChatHistoryStore chatHistoryStore;
+	
+	@Autowired
+	private RoomPresenceRegistry roomPresenceRegistry;
+	
+	@Autowired(required = false)
+	private ChatLog chatLog; // chat.log.enabled=true 일 때만 존재
 	
 	/*
 	 * WebSocket 연결이 끊어졌을 때(퇴장) 실행되는 리스너
@@ -23,14 +30,13 @@ public class WebSocketEventListener {
 	@EventListener
 	public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
 		
-		// 연결이 끊어진 세션의 헤더 정보
-		StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-		
-		// 세션에서 username과 roomId를 가져옴 (addUser에서 저장했던 값)
-        String username = (String) headerAccessor.getSessionAttributes().get("username");
-        String roomId = (String) headerAccessor.getSessionAttributes().get("roomId");
+		// 접속자 목록에서 세션을 빼고, 마지막으로 있던 방과 이름을 가져옴 (addUser에서 등록했던 값)
+		// 같은 세션의 종료 이벤트가 두 번 와도 두 번째는 null이라 퇴장 메시지가 중복되지 않음
+		RoomPresenceRegistry.Membership membership = roomPresenceRegistry.leave(event.getSessionId());
 		
-		if(username != null && roomId != null) {
+		if(membership != null) {
+			String username = membership.username();
+			String roomId = membership.roomId();
 			log.info("사용자 퇴장 : {}, 방 ID : {}", username, roomId);
 			
 			// ChatMessage 객체 생성(LEAVE 타입)
@@ -39,8 +45,16 @@ public class WebSocketEventListener {
 			chatMessage.setSender(username);
 			chatMessage.setRoomId(roomId);
 			
+			chatHistoryStore.append(roomId, chatMessage); // 퇴장 기록도 대화 기록에 남김
+			if (chatLog != null) {
+				chatLog.append(roomId, chatMessage).exceptionally(e -> {
+					log.warn("채팅 로그 기록 실패 : 방 ID {}", roomId, e);
+					return null;
+				});
+			}
+			
 			// /topic/room/{roomId} 토픽으로 퇴장 메시지를 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/room/" + roomId, chatMessage);
+            chatBroadcaster.broadcast(roomId, chatMessage);
 		}
 	}
 }
@@ -0,0 +1,133 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionListener;
+
+/**
+ * amqp 모드의 동적 바인딩 : 방별 로컬 구독 수가 0 <-> 1 로 바뀔 때만 RabbitMQ를 호출하는지,
+ * 바인딩에 실패한 방을 다시 시도하는지 검사
+ * (RabbitMQ 대신 AmqpAdmin, ConnectionFactory 목 객체 사용)
+ */
+class AmqpRoomBindingsTests {
+
+	private final AmqpAdmin amqpAdmin = mock(AmqpAdmin.class);
+	private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+	private final AmqpRoomBindings bindings = new AmqpRoomBindings(amqpAdmin, new Queue("chat.node.test"),
+			new TopicExchange("chat.rooms"), connectionFactory);
+
+	@Test
+	void bindsRoomOnceForManyLocalSubscribers() {
+		bindings.subscribe("s1", "sub-0", "/topic/room/r1");
+		bindings.subscribe("s2", "sub-0", "/topic/room/r1");
+		bindings.subscribe("s2", "sub-1", "/topic/room/r2");
+
+		verify(amqpAdmin, times(1)).declareBinding(argThat(binding -> "room.r1".equals(binding.getRoutingKey())));
+		verify(amqpAdmin, times(1)).declareBinding(argThat(binding -> "room.r2".equals(binding.getRoutingKey())));
+
+		bindings.unsubscribe("s1", "sub-0");
+		verify(amqpAdmin, never()).removeBinding(any(Binding.class)); // s2가 아직 r1을 구독 중
+
+		bindings.disconnect("s2");
+		verify(amqpAdmin, times(2)).removeBinding(any(Binding.class));
+		assertThat(bindings.boundRoomCount()).isZero();
+	}
+
+	@Test
+	void ignoresOtherDestinationsAndWildcards() {
+		bindings.subscribe("s1", "sub-0", "/user/topic/history");
+		bindings.subscribe("s1", "sub-1", "/topic/room/#");
+		bindings.subscribe("s1", "sub-2", "/topic/room/*");
+		bindings.unsubscribe("s1", "sub-0");
+		bindings.disconnect("s1");
+		bindings.disconnect("unknown");
+
+		verify(amqpAdmin, never()).declareBinding(any(Binding.class));
+		verify(amqpAdmin, never()).removeBinding(any(Binding.class));
+	}
+
+	@Test
+	void resubscribingSameSubscriptionIdMovesBinding() {
+		bindings.subscribe("s1", "sub-0", "/topic/room/r1");
+		bindings.subscribe("s1", "sub-0", "/topic/room/r2");
+
+		verify(amqpAdmin).removeBinding(argThat(binding -> "room.r1".equals(binding.getRoutingKey())));
+		assertThat(bindings.boundRoomCount()).isEqualTo(1);
+	}
+
+	@Test
+	void retriesFailedBindingOnReconnect() {
+		doThrow(new AmqpException("broker down")).doNothing().when(amqpAdmin).declareBinding(any(Binding.class));
+
+		bindings.subscribe("s1", "sub-0", "/topic/room/r1"); // 예외가 구독 처리 밖으로 나가지 않음
+		assertThat(bindings.boundRoomCount()).isZero();
+
+		reconnect();
+		verify(amqpAdmin, times(2)).declareBinding(argThat(binding -> "room.r1".equals(binding.getRoutingKey())));
+		assertThat(bindings.boundRoomCount()).isEqualTo(1);
+
+		bindings.unsubscribe("s1", "sub-0");
+		verify(amqpAdmin).removeBinding(argThat(binding -> "room.r1".equals(binding.getRoutingKey())));
+		assertThat(bindings.boundRoomCount()).isZero();
+	}
+
+	@Test
+	void retriesFailedBindingOnNextSubscribe() {
+		doThrow(new AmqpException("broker down")).doNothing().when(amqpAdmin).declareBinding(any(Binding.class));
+
+		bindings.subscribe("s1", "sub-0", "/topic/room/r1");
+		bindings.subscribe("s2", "sub-0", "/topic/room/r1");
+
+		verify(amqpAdmin, times(2)).declareBinding(any(Binding.class));
+		assertThat(bindings.boundRoomCount()).isEqualTo(1);
+	}
+
+	@Test
+	void failedRemovalIsDroppedOnReconnect() {
+		doThrow(new AmqpException("broker down")).when(amqpAdmin).removeBinding(any(Binding.class));
+
+		bindings.subscribe("s1", "sub-0", "/topic/room/r1");
+		bindings.unsubscribe("s1", "sub-0");
+		assertThat(bindings.boundRoomCount()).isEqualTo(1); // 제거 실패 -> 바인딩이 남아 있음
+
+		reconnect(); // 새 큐에는 바인딩이 없고, 구독이 없는 방은 다시 바인딩하지 않음
+		verify(amqpAdmin, times(1)).declareBinding(any(Binding.class));
+		assertThat(bindings.boundRoomCount()).isZero();
+	}
+
+	@Test
+	void forgetsSessionsWithoutSubscriptions() {
+		bindings.subscribe("s1", "sub-0", "/topic/room/r1");
+		bindings.subscribe("s1", "sub-1", "/topic/room/r2");
+		bindings.unsubscribe("s1", "sub-0");
+		assertThat(bindings.sessionCount()).isEqualTo(1);
+
+		bindings.unsubscribe("s1", "sub-1");
+		bindings.unsubscribe("s1", "sub-1"); // 이미 지운 세션
+		assertThat(bindings.sessionCount()).isZero();
+		assertThat(bindings.boundRoomCount()).isZero();
+	}
+
+	// RabbitMQ 재연결 흉내 : 생성자에서 등록한 연결 리스너 호출
+	private void reconnect() {
+		ArgumentCaptor<ConnectionListener> listener = ArgumentCaptor.forClass(ConnectionListener.class);
+		verify(connectionFactory).addConnectionListener(listener.capture());
+		listener.getValue().onCreate(mock(Connection.class));
+	}
+}
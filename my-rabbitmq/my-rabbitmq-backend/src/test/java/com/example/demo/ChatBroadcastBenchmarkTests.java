@@ -0,0 +1,226 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 브로커 모드별 채팅 처리량 / 종단 간(보낸 순간 ~ 구독자 수신) 지연 벤치마크
+ * - 모드마다 애플리케이션을 빈 포트에 띄우고, STOMP-over-WebSocket 클라이언트 수천 개를 방에 나눠 구독시킴
+ * - 방마다 클라이언트 1개가 /app/chat.sendMessage/{roomId} 로 보내고, 방의 모든 구독자가 받을 때까지 측정
+ * - 보낸 시각(System.nanoTime)을 메시지 내용에 담아서, 같은 JVM의 수신 시각과 비교
+ * 기본 test 태스크에서는 제외 (./gradlew benchmark, 설정은 build.gradle 참고)
+ */
+@Tag("benchmark")
+class ChatBroadcastBenchmarkTests {
+
+	private static final String MODES = System.getProperty("chat.benchmark.modes", "simple");
+	private static final int CLIENTS = Integer.getInteger("chat.benchmark.clients", 2_000);
+	private static final int ROOMS = Integer.getInteger("chat.benchmark.rooms", 20);
+	private static final int MESSAGES_PER_ROOM = Integer.getInteger("chat.benchmark.messages", 100);
+
+	private static final String WARMUP = "warmup";
+	private static final int CONNECT_BATCH = 200;
+
+	@Test
+	void fanOutThroughputAndLatencyPerBrokerMode() throws Exception {
+		for (String mode : MODES.split(",")) {
+			Result result = run(mode.trim());
+			long[] latencies = result.sortedLatencies();
+			System.out.printf("chat broker %-6s : %,d clients / %d rooms, %,d deliveries in %d ms (%,d messages/s), "
+					+ "latency p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+					mode, CLIENTS, ROOMS, latencies.length, result.elapsedNanos() / 1_000_000,
+					latencies.length * 1_000_000_000L / Math.max(1, result.elapsedNanos()),
+					millis(percentile(latencies, 50)), millis(percentile(latencies, 90)),
+					millis(percentile(latencies, 99)), millis(latencies.length > 0 ? latencies[latencies.length - 1] : 0));
+
+			assertThat(latencies).hasSize(expectedDeliveries());
+		}
+	}
+
+	private Result run(String mode) throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MyRabbitmqBackendApplication.class)
+				.run("--server.port=0", "--chat.broker.mode=" + mode, "--chat.log.enabled=false")) {
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			String url = "ws://localhost:" + port + "/ws/websocket"; // SockJS 엔드포인트의 순수 WebSocket 주소
+
+			WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+			stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+			Recorder recorder = new Recorder(expectedDeliveries());
+			CountDownLatch warmedUp = new CountDownLatch(CLIENTS);
+			List<StompSession> sessions = connectAll(stompClient, url, recorder, warmedUp);
+			ExecutorService senders = Executors.newFixedThreadPool(Math.min(ROOMS, 16));
+			try {
+				// 준비 : 모든 구독자가 (구독이 브로커에 등록되어) 메시지를 하나라도 받을 때까지 방마다 반복 전송
+				long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+				do {
+					for (int room = 0; room < ROOMS; room++) {
+						sessions.get(room).send(sendDestination(room), message(room, WARMUP));
+					}
+				} while (!warmedUp.await(200, TimeUnit.MILLISECONDS) && System.nanoTime() < deadline);
+				assertThat(warmedUp.getCount()).as("clients not receiving after warm-up").isZero();
+
+				// 측정 : 방마다 보내는 스레드 1개 (한 세션에는 한 스레드만 보냄)
+				long start = System.nanoTime();
+				List<CompletableFuture<Void>> sends = new ArrayList<>();
+				for (int room = 0; room < ROOMS; room++) {
+					int roomIndex = room;
+					StompSession sender = sessions.get(room);
+					sends.add(CompletableFuture.runAsync(() -> {
+						for (int i = 0; i < MESSAGES_PER_ROOM; i++) {
+							sender.send(sendDestination(roomIndex), message(roomIndex, Long.toString(System.nanoTime())));
+						}
+					}, senders));
+				}
+				sends.forEach(CompletableFuture::join);
+				recorder.delivered.await(120, TimeUnit.SECONDS);
+				return new Result(recorder.snapshot(), recorder.lastDeliveryNanos.get() - start);
+			} finally {
+				senders.shutdown();
+				sessions.forEach(StompSession::disconnect);
+				stompClient.stop();
+			}
+		}
+	}
+
+	// 클라이언트 i는 방 (i % ROOMS)를 구독, 앞의 ROOMS개 클라이언트가 각 방의 발신자
+	private static List<StompSession> connectAll(WebSocketStompClient stompClient, String url, Recorder recorder,
+			CountDownLatch warmedUp) throws Exception {
+		List<StompSession> sessions = new ArrayList<>(CLIENTS);
+		for (int from = 0; from < CLIENTS; from += CONNECT_BATCH) {
+			List<CompletableFuture<StompSession>> connecting = new ArrayList<>();
+			for (int i = from; i < Math.min(from + CONNECT_BATCH, CLIENTS); i++) {
+				connecting.add(stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+				}));
+			}
+			for (CompletableFuture<StompSession> future : connecting) {
+				StompSession session = future.get(30, TimeUnit.SECONDS);
+				session.subscribe("/topic/room/" + roomId(sessions.size() % ROOMS), new ClientHandler(recorder, warmedUp));
+				sessions.add(session);
+			}
+		}
+		return sessions;
+	}
+
+	private static final class ClientHandler implements StompFrameHandler {
+
+		private final Recorder recorder;
+		private final CountDownLatch warmedUp;
+		private volatile boolean warm;
+
+		private ClientHandler(Recorder recorder, CountDownLatch warmedUp) {
+			this.recorder = recorder;
+			this.warmedUp = warmedUp;
+		}
+
+		@Override
+		public Type getPayloadType(StompHeaders headers) {
+			return ChatMessage.class;
+		}
+
+		@Override
+		public void handleFrame(StompHeaders headers, Object payload) {
+			long now = System.nanoTime();
+			String content = ((ChatMessage) payload).getContent();
+			if (WARMUP.equals(content)) {
+				if (!warm) {
+					warm = true;
+					warmedUp.countDown();
+				}
+				return;
+			}
+			recorder.record(now - Long.parseLong(content), now);
+		}
+	}
+
+	// 수신 지연 기록 (미리 잡은 배열에 순서대로 기록, 락 없음)
+	private static final class Recorder {
+
+		private final long[] latencies;
+		private final AtomicInteger next = new AtomicInteger();
+		private final LongAccumulator lastDeliveryNanos = new LongAccumulator(Long::max, Long.MIN_VALUE);
+		private final CountDownLatch delivered;
+
+		private Recorder(int expected) {
+			this.latencies = new long[expected];
+			this.delivered = new CountDownLatch(expected);
+		}
+
+		void record(long latencyNanos, long now) {
+			int index = next.getAndIncrement();
+			if (index < latencies.length) {
+				latencies[index] = latencyNanos;
+			}
+			lastDeliveryNanos.accumulate(now);
+			delivered.countDown(); // countDown 이전의 기록은 await 이후에 보임
+		}
+
+		long[] snapshot() {
+			return Arrays.copyOf(latencies, (int) Math.min(latencies.length, latencies.length - delivered.getCount()));
+		}
+	}
+
+	private record Result(long[] latencies, long elapsedNanos) {
+
+		long[] sortedLatencies() {
+			long[] sorted = latencies.clone();
+			Arrays.sort(sorted);
+			return sorted;
+		}
+	}
+
+	private static int expectedDeliveries() {
+		return CLIENTS * MESSAGES_PER_ROOM; // 방마다 MESSAGES_PER_ROOM개 x 구독자 수
+	}
+
+	private static String roomId(int room) {
+		return "bench-" + room;
+	}
+
+	private static String sendDestination(int room) {
+		return "/app/chat.sendMessage/" + roomId(room);
+	}
+
+	private static ChatMessage message(int room, String content) {
+		ChatMessage message = new ChatMessage();
+		message.setSender("bench");
+		message.setContent(content);
+		message.setType(ChatMessage.MessageType.CHAT);
+		message.setRoomId(roomId(room));
+		return message;
+	}
+
+	private static long percentile(long[] sorted, int percent) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		return sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percent / 100.0) - 1)];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
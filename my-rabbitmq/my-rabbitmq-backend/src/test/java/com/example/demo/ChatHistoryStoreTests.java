@@ -0,0 +1,131 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 채팅방 최근 메시지 링 버퍼 : 동시 추가 시 칸 덮어쓰기 순서, 비활성 방 정리와 추가가 겹칠 때 메시지 유실 여부 검사
+ */
+class ChatHistoryStoreTests {
+
+	private static final int THREADS = 8;
+
+	@Test
+	void keepsLatestMessagesUnderConcurrentAppends() {
+		int capacity = 64;
+		int perThread = 20_000;
+		ChatHistoryStore store = new ChatHistoryStore(capacity, 30);
+
+		runConcurrently(THREADS, thread -> {
+			for (int i = 0; i < perThread; i++) {
+				store.append("r1", message("r1", thread + "-" + i));
+			}
+		});
+
+		// 칸마다 가장 큰 시퀀스만 남아야 마지막 capacity개가 모두 보임
+		// (늦게 도착한 이전 시퀀스가 덮어쓰면 그 칸은 건너뛰어져서 개수가 모자람)
+		List<ChatMessage> recent = store.recent("r1");
+		assertThat(recent).hasSize(capacity);
+		assertThat(recent).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void doesNotLoseMessagesAppendedWhileRoomIsEvicted() throws InterruptedException {
+		int roomCount = 5_000;
+		for (int round = 0; round < 5; round++) {
+			ChatHistoryStore store = new ChatHistoryStore(16, 30);
+			for (int i = 0; i < roomCount; i++) {
+				store.append(roomId(i), message(roomId(i), "old"));
+			}
+			Thread.sleep(5);
+			long threshold = System.currentTimeMillis(); // 이전에 쓴 방은 모두 비활성, 이후에 쓴 방은 활성
+
+			CountDownLatch ready = new CountDownLatch(2);
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+			CompletableFuture<Void> appender = CompletableFuture.runAsync(() -> {
+				await(ready);
+				for (int i = 0; i < roomCount; i++) {
+					store.append(roomId(i), message(roomId(i), "new"));
+				}
+			}, executor);
+			CompletableFuture<Void> evictor = CompletableFuture.runAsync(() -> {
+				await(ready);
+				store.evictIdleRooms(threshold);
+			}, executor);
+			appender.join();
+			evictor.join();
+			executor.shutdown();
+
+			// 방이 정리되었든 아니든, 정리와 겹쳐 쓴 메시지는 남아 있어야 함
+			for (int i = 0; i < roomCount; i++) {
+				assertThat(store.recent(roomId(i))).extracting(ChatMessage::getContent).contains("new");
+			}
+		}
+	}
+
+	@Test
+	void evictsOnlyIdleRooms() throws InterruptedException {
+		ChatHistoryStore store = new ChatHistoryStore(16, 30);
+		store.append("idle", message("idle", "m"));
+		Thread.sleep(5);
+		long threshold = System.currentTimeMillis();
+		store.append("active", message("active", "m"));
+
+		assertThat(store.evictIdleRooms(threshold)).isEqualTo(1);
+		assertThat(store.recent("idle")).isEmpty();
+		assertThat(store.recent("active")).hasSize(1);
+
+		store.append("idle", message("idle", "again")); // 정리된 방에 다시 쓰면 새 버퍼가 만들어짐
+		assertThat(store.recent("idle")).extracting(ChatMessage::getContent).containsExactly("again");
+	}
+
+	private interface Worker {
+		void run(int thread);
+	}
+
+	private static void runConcurrently(int threads, Worker worker) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch ready = new CountDownLatch(threads);
+		List<CompletableFuture<Void>> running = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			int thread = t;
+			running.add(CompletableFuture.runAsync(() -> {
+				await(ready);
+				worker.run(thread);
+			}, executor));
+		}
+		running.forEach(CompletableFuture::join);
+		executor.shutdown();
+	}
+
+	// 모든 스레드가 준비될 때까지 기다렸다가 동시에 시작
+	private static void await(CountDownLatch ready) {
+		ready.countDown();
+		try {
+			ready.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static String roomId(int i) {
+		return "room-" + i;
+	}
+
+	private static ChatMessage message(String roomId, String content) {
+		ChatMessage message = new ChatMessage();
+		message.setSender("tester");
+		message.setContent(content);
+		message.setType(ChatMessage.MessageType.CHAT);
+		message.setRoomId(roomId);
+		return message;
+	}
+}
@@ -0,0 +1,252 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 채팅 로그(세그먼트 전환, 뒤로 넘기기, 재시작 복구, 동시 기록) 검사와 fsync 정책별 기록 처리량 비교(benchmark 태그)
+ */
+class ChatLogTests {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void pagesBackwardsThroughRoomAcrossSegments() {
+		try (ChatLog chatLog = open(dir, 4096, ChatLog.FsyncPolicy.NEVER)) {
+			appendAll(chatLog, 150);
+
+			ChatLog.HistoryPage first = chatLog.history("a", null, 50);
+			ChatLog.HistoryPage second = chatLog.history("a", first.nextCursor(), 50);
+			ChatLog.HistoryPage third = chatLog.history("a", second.nextCursor(), 50);
+
+			assertThat(contents(first)).containsExactlyElementsOf(expected("a", 100, 150));
+			assertThat(contents(second)).containsExactlyElementsOf(expected("a", 50, 100));
+			assertThat(contents(third)).containsExactlyElementsOf(expected("a", 0, 50));
+			assertThat(third.hasNext()).isFalse();
+			assertThat(chatLog.history("b", null, 1).messages().get(0).message().getContent()).isEqualTo("b-149");
+		}
+		assertThat(segmentFiles(dir)).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void rejectsCursorOfAnotherRoom() {
+		try (ChatLog chatLog = open(dir, 4096, ChatLog.FsyncPolicy.NEVER)) {
+			appendAll(chatLog, 10);
+			long cursorOfB = chatLog.history("b", null, 1).messages().get(0).offset();
+
+			assertThatThrownBy(() -> chatLog.history("a", cursorOfB, 10)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> chatLog.history("a", cursorOfB + 1, 10)).isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Test
+	void recoversFromIndexAndDropsTornTail() throws IOException {
+		try (ChatLog chatLog = open(dir, 4096, ChatLog.FsyncPolicy.ALWAYS)) {
+			appendAll(chatLog, 100);
+		}
+
+		// 비정상 종료 흉내 : 마지막 세그먼트의 색인을 지우고, 유효한 끝 위치에 쓰다 만 레코드를 남김
+		Path last = segmentFiles(dir).get(segmentFiles(dir).size() - 1);
+		Path index = Path.of(last.toString().replace(".log", ".index"));
+		int end;
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(index))) {
+			end = in.readInt();
+		}
+		Files.delete(index);
+		try (FileChannel channel = FileChannel.open(last, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 64, 1, 2, 3 }), end);
+		}
+
+		try (ChatLog chatLog = open(dir, 4096, ChatLog.FsyncPolicy.ALWAYS)) {
+			chatLog.append("a", message("a", "a-100")).join();
+
+			ChatLog.HistoryPage page = chatLog.history("a", null, 200);
+			assertThat(contents(page)).containsExactlyElementsOf(expected("a", 0, 101));
+			assertThat(page.hasNext()).isFalse();
+		}
+	}
+
+	@Test
+	void retriesSegmentRollAfterFailure() throws IOException {
+		int perSegment;
+		try (ChatLog chatLog = open(dir, 4096, ChatLog.FsyncPolicy.ALWAYS)) {
+			// 내용 길이를 맞춰서 레코드 크기를 일정하게 함
+			long first = chatLog.append("a", message("a", fixed(0))).join();
+			long recordLength = chatLog.append("a", message("a", fixed(1))).join() - first;
+			perSegment = (int) (4096 / recordLength);
+			for (int i = 2; i < perSegment; i++) {
+				chatLog.append("a", message("a", fixed(i))).join();
+			}
+
+			// 다음 세그먼트 파일 자리에 디렉터리를 만들어서 세그먼트 전환을 실패시킴
+			Path blocker = Files.createDirectory(dir.resolve(String.format("%020d.log", perSegment * recordLength)));
+			assertThatThrownBy(() -> chatLog.append("a", message("a", "a-lst")).join())
+					.isInstanceOf(CompletionException.class);
+
+			// 원인이 사라지면 다음 기록에서 전환을 다시 시도하고, 실패한 레코드는 남지 않음
+			Files.delete(blocker);
+			chatLog.append("a", message("a", fixed(perSegment))).join();
+			assertThat(contents(chatLog.history("a", null, 1000))).containsExactlyElementsOf(expectedFixed(perSegment + 1));
+		}
+		assertThat(segmentFiles(dir)).hasSize(2);
+
+		try (ChatLog chatLog = open(dir, 4096, ChatLog.FsyncPolicy.ALWAYS)) {
+			assertThat(contents(chatLog.history("a", null, 1000))).containsExactlyElementsOf(expectedFixed(perSegment + 1));
+		}
+	}
+
+	@Test
+	void concurrentProducersGetDistinctOffsetsInEveryPolicy() throws IOException {
+		int producers = 4;
+		int perProducer = 500;
+		for (ChatLog.FsyncPolicy policy : ChatLog.FsyncPolicy.values()) {
+			Path policyDir = Files.createDirectory(dir.resolve(policy.name()));
+			try (ChatLog chatLog = open(policyDir, 1 << 16, policy)) {
+				Set<Long> offsets = appendConcurrently(chatLog, producers, perProducer);
+
+				assertThat(offsets).hasSize(producers * perProducer);
+				assertThat(contents(chatLog.history("room-0", null, perProducer)))
+						.containsExactlyElementsOf(expected("room-0", 0, perProducer));
+			}
+		}
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	@Test
+	@Tag("benchmark")
+	void groupCommitThroughputPerFsyncPolicy() throws IOException {
+		int producers = 4;
+		int perProducer = 5_000;
+		for (ChatLog.FsyncPolicy policy : ChatLog.FsyncPolicy.values()) {
+			Path policyDir = Files.createDirectory(dir.resolve(policy.name()));
+			try (ChatLog chatLog = open(policyDir, 1 << 20, policy)) {
+				long start = System.nanoTime();
+				Set<Long> offsets = appendConcurrently(chatLog, producers, perProducer);
+				long elapsed = System.nanoTime() - start;
+
+				System.out.printf("chat log append, fsync %-8s : %,d messages in %d ms (%,d messages/s)%n",
+						policy, offsets.size(), elapsed / 1_000_000, offsets.size() * 1_000_000_000L / elapsed);
+				assertThat(offsets).hasSize(producers * perProducer);
+			}
+		}
+	}
+
+	// 생산자 스레드마다 자기 방(room-N)에 perProducer개씩 기록하고, 모두 끝날 때까지 기다려서 오프셋 반환
+	private static Set<Long> appendConcurrently(ChatLog chatLog, int producers, int perProducer) {
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		try {
+			List<CompletableFuture<List<CompletableFuture<Long>>>> tasks = new ArrayList<>();
+			for (int p = 0; p < producers; p++) {
+				String roomId = "room-" + p;
+				tasks.add(CompletableFuture.supplyAsync(() -> {
+					List<CompletableFuture<Long>> appends = new ArrayList<>(perProducer);
+					for (int i = 0; i < perProducer; i++) {
+						appends.add(appendWithRetry(chatLog, roomId, message(roomId, roomId + "-" + i)));
+					}
+					return appends;
+				}, executor));
+			}
+			Set<Long> offsets = new HashSet<>();
+			for (CompletableFuture<List<CompletableFuture<Long>>> task : tasks) {
+				for (CompletableFuture<Long> append : task.join()) {
+					offsets.add(append.join());
+				}
+			}
+			return offsets;
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static ChatLog open(Path dir, int segmentBytes, ChatLog.FsyncPolicy policy) {
+		return new ChatLog(dir.toString(), segmentBytes, policy, 50, 512, 1024, OBJECT_MAPPER);
+	}
+
+	// 방 a, b에 번갈아 count개씩 기록하고 모두 끝날 때까지 대기
+	private static void appendAll(ChatLog chatLog, int count) {
+		List<CompletableFuture<Long>> appends = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			appends.add(chatLog.append("a", message("a", "a-" + i)));
+			appends.add(chatLog.append("b", message("b", "b-" + i)));
+		}
+		appends.forEach(CompletableFuture::join);
+	}
+
+	// 대기 큐가 가득 차면 잠깐 쉬었다가 다시 시도
+	private static CompletableFuture<Long> appendWithRetry(ChatLog chatLog, String roomId, ChatMessage message) {
+		while (true) {
+			CompletableFuture<Long> append = chatLog.append(roomId, message);
+			if (!append.isCompletedExceptionally()) {
+				return append;
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	private static ChatMessage message(String roomId, String content) {
+		ChatMessage message = new ChatMessage();
+		message.setSender("tester");
+		message.setContent(content);
+		message.setType(ChatMessage.MessageType.CHAT);
+		message.setRoomId(roomId);
+		return message;
+	}
+
+	private static List<String> contents(ChatLog.HistoryPage page) {
+		return page.messages().stream().map(logged -> logged.message().getContent()).toList();
+	}
+
+	private static List<String> expected(String roomId, int from, int to) {
+		List<String> contents = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			contents.add(roomId + "-" + i);
+		}
+		return contents;
+	}
+
+	private static String fixed(int i) {
+		return String.format("a-%03d", i);
+	}
+
+	private static List<String> expectedFixed(int count) {
+		List<String> contents = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			contents.add(fixed(i));
+		}
+		return contents;
+	}
+
+	private static List<Path> segmentFiles(Path dir) {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.filter(path -> path.toString().endsWith(".log")).sorted().toList();
+		} catch (IOException e) {
+			throw new java.io.UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.demo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 방별 접속자 목록의 입장/방 이동/연결 종료 검사와 대량 동시 접속 처리 시간(benchmark 태그)
+ */
+class RoomPresenceRegistryTests {
+
+	private static final int THREADS = 8;
+
+	private final RoomPresenceRegistry registry = new RoomPresenceRegistry();
+
+	@Test
+	void tracksJoinSwitchAndLeave() {
+		assertThat(registry.join("s1", "alice", "r1")).isNull();
+		assertThat(registry.join("s2", "bob", "r1")).isNull();
+		assertThat(registry.join("s1", "alice", "r1")).isNull(); // 같은 방에 다시 입장해도 한 번만 셈
+
+		assertThat(registry.onlineCount("r1")).isEqualTo(2);
+		assertThat(registry.presence("r1", 10).members()).containsExactlyInAnyOrder("alice", "bob");
+
+		RoomPresenceRegistry.Membership previous = registry.join("s1", "alice", "r2");
+		assertThat(previous).isEqualTo(new RoomPresenceRegistry.Membership("r1", "alice"));
+		assertThat(registry.onlineCount("r1")).isEqualTo(1);
+		assertThat(registry.onlineCount("r2")).isEqualTo(1);
+
+		assertThat(registry.leave("s1")).isEqualTo(new RoomPresenceRegistry.Membership("r2", "alice"));
+		assertThat(registry.leave("s1")).isNull(); // 종료 이벤트가 중복되어도 한 번만 처리
+		assertThat(registry.onlineCounts()).containsOnlyKeys("r1"); // 빈 방은 바로 제거
+	}
+
+	@Test
+	void staysConsistentUnderConnectDisconnectBursts() {
+		churn(10_000, 100);
+	}
+
+	// 기본 test 태스크에서는 제외 (./gradlew benchmark)
+	@Test
+	@Tag("benchmark")
+	void connectDisconnectBurstTiming() {
+		int sessions = 100_000;
+		int rooms = 1_000;
+		long[] millis = churn(sessions, rooms);
+		System.out.printf("presence %,d sessions / %,d rooms : join %d ms, switch+disconnect %d ms, leave %d ms%n",
+				sessions, rooms, millis[0], millis[1], millis[2]);
+	}
+
+	// 입장 -> (절반 방 이동 + 절반 연결 종료) -> 전부 종료, 단계마다 접속자 수를 검사하고 걸린 시간(ms) 반환
+	private long[] churn(int sessions, int rooms) {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			long joinMillis = burst(executor, sessions, i -> registry.join("s" + i, "user" + i, "room-" + (i % rooms)));
+			assertThat(totalOnline()).isEqualTo(sessions);
+			assertThat(registry.onlineCount("room-0")).isEqualTo(sessions / rooms);
+
+			// 절반은 옆 방으로 이동, 동시에 나머지 절반은 연결 종료
+			long churnMillis = burst(executor, sessions, i -> {
+				if (i % 2 == 0) {
+					registry.join("s" + i, "user" + i, "room-" + ((i + 1) % rooms));
+				} else {
+					registry.leave("s" + i);
+				}
+			});
+			assertThat(totalOnline()).isEqualTo(sessions / 2);
+
+			long leaveMillis = burst(executor, sessions, i -> registry.leave("s" + i));
+			assertThat(registry.onlineCounts()).isEmpty();
+
+			return new long[] { joinMillis, churnMillis, leaveMillis };
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	// 세션 0 ~ sessions-1 을 THREADS개 스레드에 나눠서 동시에 처리, 걸린 시간(ms)
+	private static long burst(ExecutorService executor, int sessions, IntConsumer action) {
+		long start = System.nanoTime();
+		List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++) {
+			int offset = t;
+			tasks.add(CompletableFuture.runAsync(() -> {
+				for (int i = offset; i < sessions; i += THREADS) {
+					action.accept(i);
+				}
+			}, executor));
+		}
+		tasks.forEach(CompletableFuture::join);
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+
+	private int totalOnline() {
+		return registry.onlineCounts().values().stream().mapToInt(Integer::intValue).sum();
+	}
+}